@@ -0,0 +1,50 @@
+package itu.sprint.bench;
+
+import java.util.List;
+
+import itu.sprint.annotation.AnnotationController;
+import itu.sprint.annotation.MapURL;
+import itu.sprint.annotation.PathVariable;
+import itu.sprint.annotation.RequestParam;
+import itu.sprint.annotation.RestAPI;
+import itu.sprint.annotation.Scope;
+
+/**
+ * Contrôleur mesuré : une méthode par forme de liaison et de réponse.
+ */
+@AnnotationController(scope = Scope.SINGLETON)
+public class BenchController {
+
+    private static final Person ALICE = new Person("alice", 31, "alice@example.org", true, 4.5);
+
+    @MapURL(url = "/hello")
+    public String hello() {
+        return "hello";
+    }
+
+    @RestAPI
+    @MapURL(url = "/users/{id}")
+    public Person show(@PathVariable("id") int id) {
+        return ALICE;
+    }
+
+    @MapURL(url = "/scalar")
+    public String scalar(@RequestParam("id") int id, @RequestParam("name") String name) {
+        return name;
+    }
+
+    @MapURL(url = "/entity", method = "POST")
+    public String entity(Person person) {
+        return person.getName();
+    }
+
+    @MapURL(url = "/array", method = "POST")
+    public String array(Person[] people) {
+        return people[0].getName();
+    }
+
+    @MapURL(url = "/list", method = "POST")
+    public String list(List<Person> people) {
+        return people.get(0).getName();
+    }
+}
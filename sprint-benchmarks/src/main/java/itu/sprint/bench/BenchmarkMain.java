@@ -0,0 +1,44 @@
+package itu.sprint.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Point d'entrée du jar : mêmes options que JMH (filtre, -f, -wi, -prof...),
+ * avec un résultat JSON par défaut nommé d'après la version du framework,
+ * pour comparer deux versions avec les outils JMH habituels.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (!cli.getResultFormat().hasValue() && !cli.getResult().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON)
+                    .result("target/jmh-sprint-" + sprintVersion() + ".json");
+        }
+        new Runner(options.build()).run();
+    }
+
+    private static String sprintVersion() {
+        Properties properties = new Properties();
+        try (InputStream in = BenchmarkMain.class.getResourceAsStream("/sprint-bench.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            // version inconnue : nom générique
+        }
+        return properties.getProperty("sprint.version", "unknown");
+    }
+}
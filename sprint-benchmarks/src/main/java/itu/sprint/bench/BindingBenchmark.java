@@ -0,0 +1,112 @@
+package itu.sprint.bench;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import itu.sprint.util.HandlerPlan;
+import itu.sprint.util.RouteMatch;
+import itu.sprint.util.RouteTable;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Liaison des arguments (HandlerPlan.bindArgs, ex-buildArgs) : paramètres
+ * simples, entité, tableau et liste d'entités depuis un formulaire.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BindingBenchmark {
+
+    /** Nombre d'éléments des tableaux et listes liés */
+    @Param({ "1", "10", "50" })
+    public int elements;
+
+    private final HttpServletResponse response = new Stubs.Response().proxy;
+    private Bound scalar;
+    private Bound entity;
+    private Bound array;
+    private Bound list;
+
+    @Setup
+    public void setUp() {
+        RouteTable table = Routes.table(Routes.controllerMappings());
+
+        Map<String, String> scalarParams = new HashMap<>();
+        scalarParams.put("id", "42");
+        scalarParams.put("name", "alice");
+        scalar = new Bound(table, "/scalar", scalarParams);
+
+        Map<String, String> entityParams = new HashMap<>();
+        putPerson(entityParams, "", 0);
+        entity = new Bound(table, "/entity", entityParams);
+
+        Map<String, String> arrayParams = new HashMap<>();
+        for (int i = 0; i < elements; i++) {
+            putPerson(arrayParams, "people[" + i + "].", i);
+        }
+        array = new Bound(table, "/array", arrayParams);
+        list = new Bound(table, "/list", arrayParams);
+    }
+
+    private static void putPerson(Map<String, String> params, String prefix, int i) {
+        params.put(prefix + "name", "person" + i);
+        params.put(prefix + "age", String.valueOf(20 + i));
+        params.put(prefix + "email", "person" + i + "@example.org");
+        params.put(prefix + "active", "true");
+        params.put(prefix + "score", "3.5");
+    }
+
+    @Benchmark
+    public Object[] scalar() {
+        return scalar.bind(response);
+    }
+
+    @Benchmark
+    public Object[] entity() {
+        return entity.bind(response);
+    }
+
+    @Benchmark
+    public Object[] array() {
+        return array.bind(response);
+    }
+
+    @Benchmark
+    public Object[] list() {
+        return list.bind(response);
+    }
+
+    /** Plan, correspondance et requête préparés pour une route. */
+    private static final class Bound {
+        final HandlerPlan plan;
+        final RouteMatch match;
+        final HttpServletRequest request;
+
+        Bound(RouteTable table, String path, Map<String, String> params) {
+            this.match = table.match(path);
+            this.plan = match.getMapping().getPlans().get(0);
+            this.request = Stubs.request(plan.getHttpMethod(), path, params);
+        }
+
+        Object[] bind(HttpServletResponse response) {
+            return plan.bindArgs(request, response, match);
+        }
+    }
+}
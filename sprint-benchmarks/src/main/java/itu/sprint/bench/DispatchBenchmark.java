@@ -0,0 +1,71 @@
+package itu.sprint.bench;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import itu.sprint.Log;
+import itu.sprint.servlet.FrontServlet;
+import itu.sprint.servlet.RequestMetrics;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Requête complète à travers FrontServlet.service : tri statique,
+ * routage, liaison, appel du contrôleur et rendu texte ou JSON.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class DispatchBenchmark {
+
+    /** /hello : texte ; /users/42 : JSON ; /missing : 404 */
+    @Param({ "/hello", "/users/42", "/missing" })
+    public String path;
+
+    /** Mesures par route (histogrammes) actives ou non */
+    @Param({ "true", "false" })
+    public String metrics;
+
+    private FrontServlet servlet;
+    private HttpServletRequest request;
+    private final Stubs.Response response = new Stubs.Response();
+
+    @Setup
+    public void setUp() throws Exception {
+        Log.setLevel(Log.Level.WARN);
+        Map<String, String> params = Collections.singletonMap(RequestMetrics.ENABLED_PARAM, metrics);
+        ServletContext context = Routes.publishedContext(Routes.controllerMappings(), params);
+        servlet = new FrontServlet();
+        servlet.init(Stubs.config("FrontServlet", context));
+        request = Stubs.request("GET", path, Collections.emptyMap());
+    }
+
+    @TearDown
+    public void tearDown() {
+        servlet.destroy();
+    }
+
+    @Benchmark
+    public int service() throws Exception {
+        response.recycle();
+        servlet.service(request, response.proxy);
+        return response.size();
+    }
+}
@@ -0,0 +1,65 @@
+package itu.sprint.bench;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import itu.sprint.util.HandlerInvoker;
+import itu.sprint.util.Invokers;
+
+/**
+ * Appel d'une méthode de contrôleur par réflexion et par MethodHandle
+ * (sprint.invoker), sans argument et avec un primitif et une chaîne.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class InvokerBenchmark {
+
+    /** hello : aucun argument ; scalar : (int, String) */
+    @Param({ "hello", "scalar" })
+    public String method;
+
+    private final BenchController target = new BenchController();
+    private HandlerInvoker reflection;
+    private HandlerInvoker methodHandle;
+    private Object[] args;
+
+    @Setup
+    public void setUp() throws Exception {
+        Method handler;
+        if ("hello".equals(method)) {
+            handler = BenchController.class.getMethod("hello");
+            args = new Object[0];
+        } else {
+            handler = BenchController.class.getMethod("scalar", int.class, String.class);
+            args = new Object[] { 42, "alice" };
+        }
+        reflection = Invokers.reflection(handler);
+        methodHandle = Invokers.methodHandle(handler);
+    }
+
+    @Benchmark
+    public Object reflection() throws Throwable {
+        return reflection.invoke(target, args);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+        return methodHandle.invoke(target, args);
+    }
+}
@@ -0,0 +1,90 @@
+package itu.sprint.bench;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import itu.sprint.util.JSONConverter;
+
+/**
+ * Sérialisation JSON : objet plat, liste d'objets plats, arbre profond
+ * (chaîne) et arbre large, en String et en flux d'octets UTF-8.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    /** flat : un objet ; list : 100 objets ; deep : chaîne de 64 ; wide : arbre 4^5 */
+    @Param({ "flat", "list", "deep", "wide" })
+    public String shape;
+
+    private Object value;
+    private final CountingStream sink = new CountingStream();
+
+    @Setup
+    public void setUp() throws Exception {
+        switch (shape) {
+            case "flat":
+                value = new Person("alice", 31, "alice@example.org", true, 4.5);
+                break;
+            case "list":
+                List<Person> people = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    people.add(new Person("person" + i, 20 + i, "person" + i + "@example.org", i % 2 == 0, i / 7.0));
+                }
+                value = people;
+                break;
+            case "deep":
+                value = Node.tree(64, 1);
+                break;
+            default:
+                value = Node.tree(5, 4);
+        }
+        // Métadonnées prêtes, comme après le warm-up des routes
+        JSONConverter.prepare(value.getClass());
+    }
+
+    @Benchmark
+    public String toJSON() throws Exception {
+        return JSONConverter.toJSON(value);
+    }
+
+    @Benchmark
+    public long writeUtf8() throws IOException {
+        JSONConverter.writeJSON(value, sink);
+        return sink.count;
+    }
+
+    /** Flux qui ne garde que le nombre d'octets reçus. */
+    private static final class CountingStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package itu.sprint.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nœud d'arbre pour les graphes JSON imbriqués.
+ */
+public class Node {
+    private String label;
+    private long id;
+    private Person owner;
+    private List<Node> children = new ArrayList<>();
+
+    public Node() {
+    }
+
+    /**
+     * Arbre complet de profondeur {@code depth}, {@code fanout} enfants par nœud.
+     */
+    static Node tree(int depth, int fanout) {
+        return build(depth, fanout, new long[1]);
+    }
+
+    private static Node build(int depth, int fanout, long[] ids) {
+        Node node = new Node();
+        node.id = ids[0]++;
+        node.label = "node-" + node.id;
+        node.owner = new Person("owner \"" + node.id + "\"", (int) (node.id % 90), "o" + node.id + "@example.org",
+                node.id % 2 == 0, node.id / 3.0);
+        if (depth > 1) {
+            for (int i = 0; i < fanout; i++) {
+                node.children.add(build(depth - 1, fanout, ids));
+            }
+        }
+        return node;
+    }
+}
@@ -0,0 +1,31 @@
+package itu.sprint.bench;
+
+/**
+ * Entité liée depuis un formulaire et sérialisée en JSON.
+ */
+public class Person {
+    private String name;
+    private int age;
+    private String email;
+    private boolean active;
+    private double score;
+
+    public Person() {
+    }
+
+    public Person(String name, int age, String email, boolean active, double score) {
+        this.name = name;
+        this.age = age;
+        this.email = email;
+        this.active = active;
+        this.score = score;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+}
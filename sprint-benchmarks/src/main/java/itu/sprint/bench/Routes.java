@@ -0,0 +1,68 @@
+package itu.sprint.bench;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import itu.sprint.ControllerContainer;
+import itu.sprint.annotation.MapURL;
+import itu.sprint.util.RouteTable;
+import itu.sprint.util.RouteTableHolder;
+import itu.sprint.util.UrlMapping;
+import itu.sprint.util.UrlPattern;
+import jakarta.servlet.ServletContext;
+
+/**
+ * Construction des routes comme au démarrage, sans scan du classpath.
+ */
+final class Routes {
+
+    private Routes() {
+    }
+
+    /** Mappings des méthodes @MapURL de {@link BenchController}. */
+    static List<UrlMapping> controllerMappings() {
+        List<UrlMapping> mappings = new ArrayList<>();
+        for (Method method : BenchController.class.getDeclaredMethods()) {
+            MapURL mapUrl = method.getAnnotation(MapURL.class);
+            if (mapUrl != null) {
+                UrlMapping mapping = new UrlMapping(new UrlPattern(mapUrl.url()));
+                mapping.addMethod(BenchController.class, method);
+                mappings.add(mapping);
+            }
+        }
+        return mappings;
+    }
+
+    /**
+     * {@code count} routes paramétrées /r{i}/users/{id}, toutes sur
+     * {@link BenchController#show(int)}.
+     */
+    static List<UrlMapping> syntheticMappings(int count) {
+        Method show;
+        try {
+            show = BenchController.class.getMethod("show", int.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+        List<UrlMapping> mappings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UrlMapping mapping = new UrlMapping(new UrlPattern("/r" + i + "/users/{id}"));
+            mapping.addMethod(BenchController.class, show);
+            mappings.add(mapping);
+        }
+        return mappings;
+    }
+
+    static RouteTable table(List<UrlMapping> mappings) {
+        return new RouteTable(mappings, new ControllerContainer(List.of(BenchController.class)));
+    }
+
+    /** Contexte dont les routes sont déjà publiées, comme après ContextInitializer. */
+    static ServletContext publishedContext(List<UrlMapping> mappings, Map<String, String> initParams) {
+        ServletContext context = Stubs.context(initParams);
+        RouteTableHolder.of(context).replace(table(mappings));
+        return context;
+    }
+}
@@ -0,0 +1,77 @@
+package itu.sprint.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import itu.sprint.util.PathMatch;
+import itu.sprint.util.RouteMatch;
+import itu.sprint.util.RouteTable;
+import itu.sprint.util.UrlMapping;
+
+/**
+ * Résolution d'une URL selon le nombre de routes : table de routage
+ * actuelle contre le parcours linéaire des motifs (ancien findMatchingMapping).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RoutingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int routes;
+
+    /** first : première route, last : dernière, miss : aucune */
+    @Param({ "first", "last", "miss" })
+    public String target;
+
+    private List<UrlMapping> mappings;
+    private RouteTable table;
+    private String path;
+
+    @Setup
+    public void setUp() {
+        mappings = Routes.syntheticMappings(routes);
+        table = Routes.table(mappings);
+        switch (target) {
+            case "first":
+                path = "/r0/users/42";
+                break;
+            case "last":
+                path = "/r" + (routes - 1) + "/users/42";
+                break;
+            default:
+                path = "/nope/users/42";
+        }
+    }
+
+    @Benchmark
+    public RouteMatch routeTable() {
+        return table.match(path);
+    }
+
+    @Benchmark
+    public UrlMapping linearScan() {
+        PathMatch match = new PathMatch();
+        for (UrlMapping mapping : mappings) {
+            if (mapping.getPattern().match(path, match)) {
+                return mapping;
+            }
+        }
+        return null;
+    }
+}
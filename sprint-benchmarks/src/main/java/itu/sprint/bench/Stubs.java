@@ -0,0 +1,227 @@
+package itu.sprint.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.servlet.ServletConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Requête, réponse, contexte et configuration minimaux, sans conteneur :
+ * seules les méthodes utilisées par le pipeline répondent, les autres
+ * renvoient la valeur par défaut de leur type.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    static ServletContext context(Map<String, String> initParams) {
+        Map<String, Object> attributes = new HashMap<>();
+        return proxy(ServletContext.class, (p, m, a) -> {
+            switch (m.getName()) {
+                case "getAttribute":
+                    return attributes.get((String) a[0]);
+                case "setAttribute":
+                    attributes.put((String) a[0], a[1]);
+                    return null;
+                case "removeAttribute":
+                    attributes.remove((String) a[0]);
+                    return null;
+                case "getInitParameter":
+                    return initParams.get((String) a[0]);
+                case "getInitParameterNames":
+                    return Collections.enumeration(initParams.keySet());
+                case "getContextPath":
+                    return "";
+                case "getResourcePaths":
+                    // Index statique vide : aucune recherche de ressource par requête
+                    return Collections.emptySet();
+                default:
+                    return defaultValue(m.getReturnType());
+            }
+        });
+    }
+
+    static ServletConfig config(String name, ServletContext context) {
+        return proxy(ServletConfig.class, (p, m, a) -> {
+            switch (m.getName()) {
+                case "getServletContext":
+                    return context;
+                case "getServletName":
+                    return name;
+                case "getInitParameterNames":
+                    return Collections.emptyEnumeration();
+                default:
+                    return defaultValue(m.getReturnType());
+            }
+        });
+    }
+
+    /**
+     * Requête GET/POST déjà décodée : chemin et paramètres de formulaire.
+     */
+    static HttpServletRequest request(String method, String uri, Map<String, String> params) {
+        Map<String, String[]> parameterMap = new LinkedHashMap<>();
+        params.forEach((k, v) -> parameterMap.put(k, new String[] { v }));
+        Map<String, String[]> view = Collections.unmodifiableMap(parameterMap);
+        Map<String, Object> attributes = new HashMap<>();
+        return proxy(HttpServletRequest.class, (p, m, a) -> {
+            switch (m.getName()) {
+                case "getMethod":
+                    return method;
+                case "getRequestURI":
+                    return uri;
+                case "getServletPath":
+                    return uri;
+                case "getContextPath":
+                    return "";
+                case "getParameter":
+                    String[] values = parameterMap.get((String) a[0]);
+                    return values != null ? values[0] : null;
+                case "getParameterValues":
+                    return parameterMap.get((String) a[0]);
+                case "getParameterMap":
+                    return view;
+                case "getParameterNames":
+                    return Collections.enumeration(parameterMap.keySet());
+                case "getCharacterEncoding":
+                    return "UTF-8";
+                case "getAttribute":
+                    return attributes.get((String) a[0]);
+                case "setAttribute":
+                    attributes.put((String) a[0], a[1]);
+                    return null;
+                default:
+                    return defaultValue(m.getReturnType());
+            }
+        });
+    }
+
+    /**
+     * Réponse dont le corps est écrit dans un tampon réutilisé ;
+     * {@link Response#recycle()} la remet à neuf entre deux appels.
+     */
+    static final class Response {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+        private final Map<String, String> headers = new HashMap<>();
+        private final ServletOutputStream out = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+                body.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                body.write(b, off, len);
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+            }
+        };
+        private PrintWriter writer;
+        private String contentType;
+        private int status = 200;
+        final HttpServletResponse proxy = proxy(HttpServletResponse.class, (p, m, a) -> {
+            switch (m.getName()) {
+                case "getOutputStream":
+                    return out;
+                case "getWriter":
+                    if (writer == null) {
+                        writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                    }
+                    return writer;
+                case "setContentType":
+                    contentType = (String) a[0];
+                    return null;
+                case "getContentType":
+                    return contentType;
+                case "setHeader":
+                case "addHeader":
+                    headers.put((String) a[0], (String) a[1]);
+                    return null;
+                case "getHeader":
+                    return headers.get((String) a[0]);
+                case "containsHeader":
+                    return headers.containsKey((String) a[0]);
+                case "setStatus":
+                case "sendError":
+                    status = (Integer) a[0];
+                    return null;
+                case "getStatus":
+                    return status;
+                case "getCharacterEncoding":
+                    return "UTF-8";
+                default:
+                    return defaultValue(m.getReturnType());
+            }
+        });
+
+        void recycle() {
+            body.reset();
+            headers.clear();
+            writer = null;
+            contentType = null;
+            status = 200;
+        }
+
+        int size() {
+            if (writer != null) {
+                writer.flush();
+            }
+            return body.size();
+        }
+
+        int getStatus() {
+            return status;
+        }
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        InvocationHandler withIdentity = (p, m, a) -> {
+            if (m.getDeclaringClass() == Object.class) {
+                switch (m.getName()) {
+                    case "equals":
+                        return p == a[0];
+                    case "hashCode":
+                        return System.identityHashCode(p);
+                    default:
+                        return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(p));
+                }
+            }
+            return handler.invoke(p, m, a);
+        };
+        return type.cast(Proxy.newProxyInstance(Stubs.class.getClassLoader(), new Class<?>[] { type }, withIdentity));
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,86 @@
+package itu.sprint.loadtest;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.DefaultServlet;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.resource.Resource;
+
+import itu.sprint.ContextInitializer;
+import itu.sprint.loadtest.app.ViewServlet;
+import itu.sprint.servlet.FrontServlet;
+import jakarta.servlet.MultipartConfigElement;
+import jakarta.servlet.ServletContext;
+
+/**
+ * Jetty embarqué configuré comme le déploiement d'un war : listener du
+ * framework, FrontServlet sur "/" avec multipart, servlet "default" pour
+ * les ressources déléguées et une servlet de vue pour les forwards.
+ */
+final class EmbeddedServer implements AutoCloseable {
+
+    static final String CONTEXT_PATH = "/app";
+
+    private final Server server;
+    private final File tempDir;
+
+    private EmbeddedServer(Server server, File tempDir) {
+        this.server = server;
+        this.tempDir = tempDir;
+    }
+
+    static EmbeddedServer start(Map<String, String> initParams) throws Exception {
+        Server server = new Server();
+        ServerConnector connector = new ServerConnector(server);
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        server.addConnector(connector);
+
+        File tempDir = Files.createTempDirectory("sprint-loadtest").toFile();
+        ServletContextHandler context = new ServletContextHandler(ServletContextHandler.NO_SESSIONS);
+        context.setContextPath(CONTEXT_PATH);
+        URL webapp = EmbeddedServer.class.getResource("/webapp");
+        context.setBaseResource(Resource.newResource(webapp));
+        context.setAttribute(ServletContext.TEMPDIR, tempDir);
+        initParams.forEach(context::setInitParameter);
+        context.addEventListener(new ContextInitializer());
+
+        ServletHolder front = new ServletHolder("FrontServlet", FrontServlet.class);
+        front.setInitOrder(1);
+        // Mêmes limites que l'annotation @MultipartConfig du FrontServlet
+        front.getRegistration().setMultipartConfig(new MultipartConfigElement(tempDir.getAbsolutePath(),
+                1024 * 1024 * 10, 1024 * 1024 * 50, 1024 * 1024 * 2));
+        context.addServlet(front, "/");
+        context.addServlet(new ServletHolder("ViewServlet", ViewServlet.class), "/views/*");
+        // Sans mapping : atteinte uniquement par getNamedDispatcher("default")
+        context.getServletHandler().addServlet(new ServletHolder("default", DefaultServlet.class));
+
+        server.setHandler(context);
+        server.start();
+        return new EmbeddedServer(server, tempDir);
+    }
+
+    URI baseUri() {
+        int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+        return URI.create("http://127.0.0.1:" + port + CONTEXT_PATH);
+    }
+
+    @Override
+    public void close() throws Exception {
+        server.stop();
+        File[] leftovers = tempDir.listFiles();
+        if (leftovers != null) {
+            for (File file : leftovers) {
+                file.delete();
+            }
+        }
+        tempDir.delete();
+    }
+}
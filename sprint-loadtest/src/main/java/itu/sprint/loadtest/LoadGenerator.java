@@ -0,0 +1,127 @@
+package itu.sprint.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import itu.sprint.util.LatencyHistogram;
+
+/**
+ * Générateur en boucle fermée : {@code concurrency} clients envoient
+ * chacun la requête suivante dès la réponse précédente reçue. La latence
+ * mesurée est donc celle vue par un client au débit que le serveur tient,
+ * pas sous un débit imposé.
+ */
+final class LoadGenerator {
+
+    private final HttpClient client;
+    private final int concurrency;
+
+    LoadGenerator(int concurrency) {
+        this.concurrency = concurrency;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * Vérifie une fois le statut et le corps de la réponse ; message
+     * d'erreur, ou null si la réponse est celle attendue.
+     */
+    String check(Scenario scenario, URI base) {
+        try {
+            HttpResponse<String> response = client.send(scenario.request(base), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != scenario.getExpectedStatus()) {
+                return "statut " + response.statusCode() + " au lieu de " + scenario.getExpectedStatus();
+            }
+            if (!response.body().contains(scenario.getExpectedBody())) {
+                return "corps sans « " + scenario.getExpectedBody() + " » : " + abbreviate(response.body());
+            }
+            return null;
+        } catch (Exception e) {
+            return e.toString();
+        }
+    }
+
+    Result run(Scenario scenario, URI base, Duration warmup, Duration duration) throws InterruptedException {
+        HttpRequest request = scenario.request(base);
+        int expectedStatus = scenario.getExpectedStatus();
+        LatencyHistogram histogram = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        AtomicReference<String> firstError = new AtomicReference<>();
+
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+        List<Thread> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Thread worker = new Thread(() -> {
+                long now;
+                while ((now = System.nanoTime()) < end) {
+                    String error = null;
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != expectedStatus) {
+                            error = "statut " + response.statusCode();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    } catch (Exception e) {
+                        error = e.toString();
+                    }
+                    long elapsed = System.nanoTime() - now;
+                    if (error != null) {
+                        errors.increment();
+                        firstError.compareAndSet(null, error);
+                    } else if (now >= measureStart) {
+                        histogram.record(elapsed);
+                    }
+                }
+            }, "sprint-loadtest-" + scenario.getName() + "-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return new Result(scenario.getName(), concurrency, duration, histogram, errors.sum(), firstError.get());
+    }
+
+    private static String abbreviate(String body) {
+        String line = body.replace('\n', ' ').replace('\r', ' ');
+        return line.length() > 200 ? line.substring(0, 200) + "..." : line;
+    }
+
+    /**
+     * Mesures d'un scénario sur la fenêtre hors échauffement.
+     */
+    static final class Result {
+        final String scenario;
+        final int concurrency;
+        final Duration duration;
+        final LatencyHistogram histogram;
+        final long errors;
+        final String firstError;
+
+        Result(String scenario, int concurrency, Duration duration, LatencyHistogram histogram,
+               long errors, String firstError) {
+            this.scenario = scenario;
+            this.concurrency = concurrency;
+            this.duration = duration;
+            this.histogram = histogram;
+            this.errors = errors;
+            this.firstError = firstError;
+        }
+
+        double throughput() {
+            return histogram.getCount() / (duration.toNanos() / 1e9);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package itu.sprint.loadtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Démarre le framework dans Jetty, vérifie chaque scénario puis le
+ * soumet à la charge ; affiche débit et p50 / p99 / p99.9 par scénario et
+ * les écrit en CSV. Code de sortie 1 si une requête a échoué.
+ * <p>
+ * Propriétés : loadtest.concurrency (8), loadtest.warmupSeconds (2),
+ * loadtest.durationSeconds (5), loadtest.scenarios (tous, sinon liste
+ * séparée par des virgules), loadtest.report (fichier CSV, aucun si vide).
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 8);
+        Duration warmup = Duration.ofSeconds(Long.getLong("loadtest.warmupSeconds", 2));
+        Duration duration = Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 5));
+        List<Scenario> scenarios = select(System.getProperty("loadtest.scenarios", ""));
+        String report = System.getProperty("loadtest.report", "");
+
+        List<LoadGenerator.Result> results = new ArrayList<>();
+        List<String> failures = new ArrayList<>();
+        try (EmbeddedServer server = EmbeddedServer.start(Map.of())) {
+            URI base = server.baseUri();
+            LoadGenerator generator = new LoadGenerator(concurrency);
+            System.out.println("Cible : " + base + ", " + concurrency + " clients, échauffement "
+                    + warmup.getSeconds() + " s, mesure " + duration.getSeconds() + " s");
+
+            for (Scenario scenario : scenarios) {
+                String error = generator.check(scenario, base);
+                if (error != null) {
+                    failures.add(scenario.getName() + " : " + error);
+                }
+            }
+            if (failures.isEmpty()) {
+                for (Scenario scenario : scenarios) {
+                    LoadGenerator.Result result = generator.run(scenario, base, warmup, duration);
+                    results.add(result);
+                    System.out.println(line(result));
+                    if (result.errors > 0) {
+                        failures.add(scenario.getName() + " : " + result.errors + " erreur(s), dont " + result.firstError);
+                    }
+                }
+            }
+        }
+
+        if (!results.isEmpty()) {
+            System.out.println();
+            System.out.println(header());
+            results.forEach(result -> System.out.println(line(result)));
+            if (!report.isEmpty()) {
+                writeCsv(Paths.get(report), results);
+                System.out.println("\nRapport : " + report);
+            }
+        }
+        if (!failures.isEmpty()) {
+            System.err.println("\nÉchecs :");
+            failures.forEach(failure -> System.err.println("  " + failure));
+            System.exit(1);
+        }
+    }
+
+    private static List<Scenario> select(String names) {
+        List<Scenario> all = Scenarios.all();
+        if (names.isBlank()) {
+            return all;
+        }
+        List<String> wanted = Arrays.asList(names.split("\\s*,\\s*"));
+        List<Scenario> selected = new ArrayList<>();
+        for (Scenario scenario : all) {
+            if (wanted.contains(scenario.getName())) {
+                selected.add(scenario);
+            }
+        }
+        if (selected.isEmpty()) {
+            throw new IllegalArgumentException("Aucun scénario parmi " + names);
+        }
+        return selected;
+    }
+
+    private static String header() {
+        return String.format(Locale.ROOT, "%-20s %10s %10s %10s %10s %10s %8s",
+                "scénario", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "erreurs");
+    }
+
+    private static String line(LoadGenerator.Result result) {
+        return String.format(Locale.ROOT, "%-20s %10.0f %10.3f %10.3f %10.3f %10.3f %8d",
+                result.scenario, result.throughput(),
+                millis(result.histogram.valueAtPercentile(50)), millis(result.histogram.valueAtPercentile(99)),
+                millis(result.histogram.valueAtPercentile(99.9)), millis(result.histogram.getMaxNanos()),
+                result.errors);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static void writeCsv(Path file, List<LoadGenerator.Result> results) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.println("scenario,concurrency,duration_s,requests,errors,throughput_rps,p50_ns,p99_ns,p999_ns,max_ns");
+            for (LoadGenerator.Result result : results) {
+                out.println(String.join(",", result.scenario, String.valueOf(result.concurrency),
+                        String.valueOf(result.duration.getSeconds()), String.valueOf(result.histogram.getCount()),
+                        String.valueOf(result.errors), String.format(Locale.ROOT, "%.1f", result.throughput()),
+                        String.valueOf(result.histogram.valueAtPercentile(50)),
+                        String.valueOf(result.histogram.valueAtPercentile(99)),
+                        String.valueOf(result.histogram.valueAtPercentile(99.9)),
+                        String.valueOf(result.histogram.getMaxNanos())));
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package itu.sprint.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.function.Function;
+
+/**
+ * Requête rejouée en boucle : sa construction à partir de l'URI de base,
+ * le statut attendu et un fragment que le corps doit contenir (vérifié
+ * une fois avant la charge, pour s'assurer que la liaison a bien eu lieu).
+ */
+final class Scenario {
+
+    private final String name;
+    private final Function<URI, HttpRequest> request;
+    private final int expectedStatus;
+    private final String expectedBody;
+
+    Scenario(String name, Function<URI, HttpRequest> request, int expectedStatus, String expectedBody) {
+        this.name = name;
+        this.request = request;
+        this.expectedStatus = expectedStatus;
+        this.expectedBody = expectedBody;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    HttpRequest request(URI base) {
+        return request.apply(base);
+    }
+
+    int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    String getExpectedBody() {
+        return expectedBody;
+    }
+}
@@ -0,0 +1,116 @@
+package itu.sprint.loadtest;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Un scénario par mode de liaison des arguments, plus le rendu JSON, le
+ * forward ModelView, une ressource statique et une URL inconnue.
+ */
+final class Scenarios {
+
+    private static final int FORM_ROWS = 20;
+    private static final int UPLOAD_BYTES = 16 * 1024;
+    private static final String BOUNDARY = "sprint-loadtest-boundary";
+
+    private Scenarios() {
+    }
+
+    static List<Scenario> all() {
+        return List.of(
+            get("ping", "/ping", "pong"),
+            get("path-variable-json", "/products/42", "product-42"),
+            get("request-param", "/search?q=shoes&page=3", "search shoes page 3"),
+            get("servlet-api", "/raw", "raw GET"),
+            get("model-view", "/products/7/view", "product-7"),
+            get("static", "/static/app.css", "font-family"),
+            new Scenario("not-found", base -> HttpRequest.newBuilder(uri(base, "/missing")).GET().build(),
+                    404, "404"),
+            form("entity", "/customers", customer("", 0), "customer alice0 30"),
+            form("array", "/customers/batch", rows("customers"), "batch " + FORM_ROWS),
+            form("list", "/customers/list", rows("customers"), "list " + FORM_ROWS),
+            form("map", "/filters", Map.of("color", "red", "size", "42", "sort", "price"), "filters 3"),
+            new Scenario("json-body", base -> HttpRequest.newBuilder(uri(base, "/api/orders"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(order()))
+                    .build(), 200, "\"total\""),
+            upload("upload-part", "/upload/part", "part " + UPLOAD_BYTES),
+            upload("upload-file", "/upload/file", "file data.bin " + UPLOAD_BYTES)
+        );
+    }
+
+    private static URI uri(URI base, String path) {
+        return URI.create(base + path);
+    }
+
+    private static Scenario get(String name, String path, String expectedBody) {
+        return new Scenario(name, base -> HttpRequest.newBuilder(uri(base, path)).GET().build(), 200, expectedBody);
+    }
+
+    private static Scenario form(String name, String path, Map<String, String> fields, String expectedBody) {
+        StringBuilder body = new StringBuilder();
+        fields.forEach((key, value) -> {
+            if (body.length() > 0) {
+                body.append('&');
+            }
+            body.append(URLEncoder.encode(key, StandardCharsets.UTF_8)).append('=')
+                    .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        });
+        String encoded = body.toString();
+        return new Scenario(name, base -> HttpRequest.newBuilder(uri(base, path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(encoded))
+                .build(), 200, expectedBody);
+    }
+
+    private static Map<String, String> customer(String prefix, int i) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(prefix + "name", "alice" + i);
+        fields.put(prefix + "age", String.valueOf(30 + i));
+        fields.put(prefix + "email", "alice" + i + "@example.org");
+        return fields;
+    }
+
+    private static Map<String, String> rows(String name) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (int i = 0; i < FORM_ROWS; i++) {
+            fields.putAll(customer(name + "[" + i + "].", i));
+        }
+        return fields;
+    }
+
+    private static String order() {
+        StringBuilder json = new StringBuilder("{\"reference\":\"ORD-1\",\"customer\":{\"name\":\"alice\",\"age\":30},\"lines\":[");
+        for (int i = 0; i < 10; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"product\":\"p").append(i).append("\",\"quantity\":").append(i + 1)
+                    .append(",\"price\":").append(2.5 * i).append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static Scenario upload(String name, String path, String expectedBody) {
+        byte[] content = new byte[UPLOAD_BYTES];
+        Arrays.fill(content, (byte) 'x');
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"data.bin\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        byte[] bytes = body.toByteArray();
+        return new Scenario(name, base -> HttpRequest.newBuilder(uri(base, path))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(bytes))
+                .build(), 200, expectedBody);
+    }
+}
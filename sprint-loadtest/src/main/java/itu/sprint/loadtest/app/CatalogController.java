@@ -0,0 +1,54 @@
+package itu.sprint.loadtest.app;
+
+import java.util.List;
+
+import itu.sprint.annotation.AnnotationController;
+import itu.sprint.annotation.MapURL;
+import itu.sprint.annotation.PathVariable;
+import itu.sprint.annotation.RequestParam;
+import itu.sprint.annotation.RestAPI;
+import itu.sprint.annotation.Scope;
+import itu.sprint.mvc.ModelView;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Lecture seule, partagé : sans argument, @PathVariable, @RequestParam,
+ * requête/réponse, rendu JSON et forward ModelView.
+ */
+@AnnotationController(scope = Scope.SINGLETON)
+public class CatalogController {
+
+    @MapURL(url = "/ping")
+    public String ping() {
+        return "pong";
+    }
+
+    @RestAPI
+    @MapURL(url = "/products/{id}")
+    public Product product(@PathVariable("id") int id) {
+        return find(id);
+    }
+
+    @MapURL(url = "/search")
+    public String search(@RequestParam("q") String query, @RequestParam("page") int page) {
+        return "search " + query + " page " + page;
+    }
+
+    @MapURL(url = "/products/{id}/view")
+    public ModelView view(@PathVariable("id") int id) {
+        ModelView modelView = new ModelView("/views/product");
+        modelView.addAttribute("product", find(id));
+        return modelView;
+    }
+
+    @MapURL(url = "/raw")
+    public String raw(HttpServletRequest req, HttpServletResponse resp) {
+        resp.setHeader("X-Sprint-Raw", "1");
+        return "raw " + req.getMethod();
+    }
+
+    private static Product find(int id) {
+        return new Product(id, "product-" + id, 9.99 + id, List.of("catalog", "id-" + id));
+    }
+}
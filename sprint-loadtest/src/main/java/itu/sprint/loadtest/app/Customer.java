@@ -0,0 +1,22 @@
+package itu.sprint.loadtest.app;
+
+/**
+ * Entité liée depuis un formulaire (seule, en tableau ou en liste).
+ */
+public class Customer {
+    private String name;
+    private int age;
+    private String email;
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
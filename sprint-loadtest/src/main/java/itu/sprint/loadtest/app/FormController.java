@@ -0,0 +1,53 @@
+package itu.sprint.loadtest.app;
+
+import java.util.List;
+import java.util.Map;
+
+import itu.sprint.annotation.AnnotationController;
+import itu.sprint.annotation.MapURL;
+import itu.sprint.annotation.RestAPI;
+
+/**
+ * Une instance par requête : entité, tableau et liste d'entités depuis un
+ * formulaire, Map des paramètres et corps JSON.
+ */
+@AnnotationController
+public class FormController {
+
+    @MapURL(url = "/customers", method = "POST")
+    public String create(Customer customer) {
+        return "customer " + customer.getName() + " " + customer.getAge();
+    }
+
+    @MapURL(url = "/customers/batch", method = "POST")
+    public String batch(Customer[] customers) {
+        return "batch " + count(customers == null ? List.of() : List.of(customers));
+    }
+
+    @MapURL(url = "/customers/list", method = "POST")
+    public String list(List<Customer> customers) {
+        return "list " + count(customers);
+    }
+
+    @MapURL(url = "/filters", method = "POST")
+    public String filters(Map<String, Object> params) {
+        return "filters " + params.size();
+    }
+
+    @RestAPI
+    @MapURL(url = "/api/orders", method = "POST")
+    public Order order(Order order) {
+        order.computeTotal();
+        return order;
+    }
+
+    private static int count(List<Customer> customers) {
+        int count = 0;
+        for (Customer customer : customers) {
+            if (customer != null && customer.getName() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
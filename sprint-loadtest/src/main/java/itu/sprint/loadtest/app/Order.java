@@ -0,0 +1,33 @@
+package itu.sprint.loadtest.app;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Commande reçue en JSON dans le corps de la requête et renvoyée en JSON.
+ */
+public class Order {
+    private String reference;
+    private Customer customer;
+    private List<Line> lines = new ArrayList<>();
+    private double total;
+
+    public double computeTotal() {
+        double sum = 0;
+        for (Line line : lines) {
+            sum += line.price * line.quantity;
+        }
+        total = sum;
+        return sum;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public static class Line {
+        private String product;
+        private int quantity;
+        private double price;
+    }
+}
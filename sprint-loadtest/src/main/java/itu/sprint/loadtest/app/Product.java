@@ -0,0 +1,33 @@
+package itu.sprint.loadtest.app;
+
+import java.util.List;
+
+/**
+ * Produit renvoyé en JSON ou affiché par une vue.
+ */
+public class Product {
+    private final int id;
+    private final String name;
+    private final double price;
+    private final List<String> tags;
+
+    public Product(int id, String name, double price, List<String> tags) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.tags = tags;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + price + ")";
+    }
+}
@@ -0,0 +1,25 @@
+package itu.sprint.loadtest.app;
+
+import itu.sprint.annotation.AnnotationController;
+import itu.sprint.annotation.MapURL;
+import itu.sprint.annotation.Scope;
+import itu.sprint.annotation.UploadFile;
+import itu.sprint.util.FileUpload;
+import jakarta.servlet.http.Part;
+
+/**
+ * Réutilisé depuis un pool : fichiers multipart en Part et en FileUpload.
+ */
+@AnnotationController(scope = Scope.POOLED, poolSize = 16)
+public class UploadController {
+
+    @MapURL(url = "/upload/part", method = "POST")
+    public String part(@UploadFile("file") Part file) {
+        return "part " + (file != null ? file.getSize() : -1);
+    }
+
+    @MapURL(url = "/upload/file", method = "POST")
+    public String file(@UploadFile("file") FileUpload file) {
+        return "file " + (file != null ? file.getFileName() + " " + file.getSize() : "none");
+    }
+}
@@ -0,0 +1,24 @@
+package itu.sprint.loadtest.app;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Tient lieu de JSP : cible des forwards ModelView, affiche l'attribut
+ * « product » posé par le contrôleur.
+ */
+public class ViewServlet extends HttpServlet {
+
+    @Override
+    protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        resp.setContentType("text/html; charset=UTF-8");
+        PrintWriter out = resp.getWriter();
+        out.println("<html><head><link rel='stylesheet' href='" + req.getContextPath() + "/static/app.css'></head><body>");
+        out.println("<h1>" + req.getAttribute("product") + "</h1>");
+        out.println("</body></html>");
+    }
+}
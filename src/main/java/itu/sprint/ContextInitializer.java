@@ -1,9 +1,14 @@
 package itu.sprint;
 
-import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 import itu.sprint.util.UrlMapping;
+import itu.sprint.util.RouteTable;
+import itu.sprint.util.RouteTableHolder;
+import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import jakarta.servlet.annotation.WebListener;
@@ -11,23 +16,113 @@ import jakarta.servlet.annotation.WebListener;
 @WebListener
 public class ContextInitializer implements ServletContextListener {
 
+    // Posé à l'arrêt sous le verrou de update : plus aucune table n'est publiée ensuite
+    private static final String STOPPED_ATTR = "sprint.stopped";
+
     @Override
     public void contextInitialized(ServletContextEvent sce) {
-        System.out.println("[Sprint] Scan des contrôleurs...");
+        ServletContext context = sce.getServletContext();
+        Log.configure(context);
+        if (RouteBootstrap.isLazy(context)) {
+            // Le scan se fait en arrière-plan : le conteneur finit de démarrer tout de suite
+            Log.info("Démarrage paresseux : scan des contrôleurs en arrière-plan");
+            RouteBootstrap bootstrap = new RouteBootstrap(context);
+            context.setAttribute(RouteBootstrap.ATTR, bootstrap);
+            bootstrap.start();
+            startReloader(context);
+            return;
+        }
 
-        List<UrlMapping> mappings = ControllerScanner.scanControllers(sce.getServletContext());
-        sce.getServletContext().setAttribute(ControllerScanner.CONTROLLERS_MAP_ATTR, mappings);
+        Log.info("Scan des contrôleurs...");
+        List<UrlMapping> mappings = ControllerScanner.scanControllers(context);
+        publish(context, mappings);
+        RouteBootstrap.warmUp(mappings);
 
-        System.out.println("[Sprint] URLs mappées : " + mappings.size());
+        Log.info("URLs mappées : " + mappings.size());
         mappings.forEach(mapping -> {
             mapping.getClassMethodMap().forEach((cls, method) -> {
-                System.out.println("[Sprint]   " + mapping.getPattern().getPattern() + " -> " + cls.getSimpleName() + "#" + method.getName());
+                Log.info("  " + mapping.getPattern().getPattern() + " -> " + cls.getSimpleName() + "#" + method.getName());
             });
         });
+        startReloader(context);
+    }
+
+    private static void startReloader(ServletContext context) {
+        if (SprintConfig.isDevMode(context)) {
+            ControllerReloader reloader = ControllerReloader.start(context);
+            if (reloader != null) {
+                context.setAttribute(ControllerReloader.ATTR, reloader);
+            }
+        }
+    }
+
+    /**
+     * Publie une nouvelle table de routage (mappings, routeur, conteneur de
+     * contrôleurs) d'un seul coup. Les contrôleurs déjà gérés par le
+     * conteneur en place gardent leurs instances ; celles des contrôleurs
+     * retirés sont fermées.
+     *
+     * @return faux si l'application est arrêtée : rien n'est publié
+     */
+    static boolean publish(ServletContext context, List<UrlMapping> mappings) {
+        return update(context, current -> mappings);
+    }
+
+    /**
+     * Publie une table construite à partir des mappings de la table en
+     * place ; celle-ci n'est jamais modifiée (copie sur écriture).
+     *
+     * @return faux si l'application est arrêtée : aucun contrôleur n'est créé
+     */
+    static synchronized boolean update(ServletContext context, Function<RouteTable, List<UrlMapping>> change) {
+        if (context.getAttribute(STOPPED_ATTR) != null) {
+            Log.debug("Application arrêtée : table de routage non publiée");
+            return false;
+        }
+        RouteTableHolder routes = RouteTableHolder.of(context);
+        RouteTable current = routes.get() != null ? routes.get() : RouteTable.empty();
+        List<UrlMapping> mappings = change.apply(current);
+
+        // Les singletons sont créés ici : un contrôleur impossible à construire bloque le démarrage
+        Set<Class<?>> controllers = new LinkedHashSet<>();
+        mappings.forEach(mapping -> controllers.addAll(mapping.getClassMethodMap().keySet()));
+        ControllerContainer previous = current.getControllers() instanceof ControllerContainer
+                ? (ControllerContainer) current.getControllers() : null;
+        ControllerContainer container = new ControllerContainer(controllers, previous);
+
+        routes.replace(new RouteTable(mappings, container));
+        if (previous != null) {
+            previous.closeRetired(container);
+        }
+        return true;
+    }
+
+    /**
+     * Marque l'application arrêtée puis ferme le conteneur en place, sous le
+     * même verrou que {@link #update} : une publication en cours se termine
+     * avant, et toute publication suivante est refusée.
+     */
+    private static synchronized void stop(ServletContext context) {
+        context.setAttribute(STOPPED_ATTR, Boolean.TRUE);
+        RouteTable routes = RouteTableHolder.of(context).get();
+        if (routes != null && routes.getControllers() instanceof ControllerContainer) {
+            ((ControllerContainer) routes.getControllers()).close();
+        }
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
-        System.out.println("[Sprint] Arrêt du framework");
+        // D'abord : le scan paresseux ou un rechargement encore en cours ne publie plus rien
+        stop(sce.getServletContext());
+        Object bootstrap = sce.getServletContext().getAttribute(RouteBootstrap.ATTR);
+        if (bootstrap instanceof RouteBootstrap) {
+            ((RouteBootstrap) bootstrap).stop();
+        }
+        Object reloader = sce.getServletContext().getAttribute(ControllerReloader.ATTR);
+        if (reloader instanceof ControllerReloader) {
+            ((ControllerReloader) reloader).close();
+        }
+        Log.info("Arrêt du framework");
+        Log.shutdown();
     }
 }
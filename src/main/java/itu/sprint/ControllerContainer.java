@@ -0,0 +1,273 @@
+package itu.sprint;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import itu.sprint.annotation.AnnotationController;
+import itu.sprint.annotation.Scope;
+import itu.sprint.util.Constructors;
+import itu.sprint.util.ControllerFactory;
+
+/**
+ * Gère les instances de contrôleurs selon le scope déclaré dans
+ * {@link AnnotationController} : singletons créés au démarrage,
+ * une instance par requête, ou pool borné.
+ */
+public final class ControllerContainer implements ControllerFactory {
+
+    private static final long POOL_WAIT_SECONDS = 30;
+
+    private final Map<Class<?>, InstanceProvider> providers = new HashMap<>();
+
+    /**
+     * Prépare les contrôleurs donnés. Les singletons sont instanciés tout de
+     * suite : un échec de construction fait échouer le démarrage.
+     */
+    public ControllerContainer(Collection<Class<?>> controllerClasses) {
+        this(controllerClasses, null);
+    }
+
+    /**
+     * Variante de remplacement : les classes déjà gérées par {@code previous}
+     * gardent leurs instances (singletons, pools) ; seules les nouvelles sont
+     * préparées.
+     */
+    public ControllerContainer(Collection<Class<?>> controllerClasses, ControllerContainer previous) {
+        for (Class<?> cls : controllerClasses) {
+            if (!providers.containsKey(cls)) {
+                InstanceProvider existing = previous != null ? previous.providers.get(cls) : null;
+                providers.put(cls, existing != null ? existing : createProvider(cls));
+            }
+        }
+    }
+
+    private static InstanceProvider createProvider(Class<?> cls) {
+        AnnotationController ann = cls.getAnnotation(AnnotationController.class);
+        Scope scope = ann != null ? ann.scope() : Scope.REQUEST;
+        // null si absent ou inaccessible : l'erreur sera levée à l'instanciation
+        MethodHandle constructor = Constructors.noArg(cls);
+        switch (scope) {
+            case SINGLETON:
+                return new SingletonProvider(cls, constructor);
+            case POOLED:
+                return new PooledProvider(cls, constructor, Math.max(1, ann.poolSize()));
+            default:
+                return new RequestProvider(cls, constructor);
+        }
+    }
+
+    /**
+     * Fournit une instance du contrôleur pour la requête courante.
+     * Toute instance obtenue doit être rendue via {@link #release}.
+     */
+    @Override
+    public Object acquire(Class<?> cls) throws Exception {
+        InstanceProvider provider = providers.get(cls);
+        if (provider == null) {
+            return cls.getDeclaredConstructor().newInstance();
+        }
+        return provider.acquire();
+    }
+
+    @Override
+    public void release(Class<?> cls, Object instance) {
+        InstanceProvider provider = providers.get(cls);
+        if (provider != null && instance != null) {
+            provider.release(instance);
+        }
+    }
+
+    /**
+     * Classes de contrôleurs prises en charge.
+     */
+    public Set<Class<?>> getControllerClasses() {
+        return Collections.unmodifiableSet(providers.keySet());
+    }
+
+    public Scope scopeOf(Class<?> cls) {
+        InstanceProvider provider = providers.get(cls);
+        return provider != null ? provider.scope() : Scope.REQUEST;
+    }
+
+    /**
+     * Ferme les instances conservées (singletons, pools) qui sont AutoCloseable.
+     */
+    public void close() {
+        providers.values().forEach(ControllerContainer::close);
+    }
+
+    /**
+     * Après un remplacement : ferme seulement les instances des classes que
+     * {@code replacement} ne reprend pas.
+     */
+    public void closeRetired(ControllerContainer replacement) {
+        providers.forEach((cls, provider) -> {
+            if (replacement.providers.get(cls) != provider) {
+                close(provider);
+            }
+        });
+    }
+
+    private static void close(InstanceProvider provider) {
+        for (Object instance : provider.retained()) {
+            if (instance instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) instance).close();
+                } catch (Exception e) {
+                    Log.error("Fermeture de " + instance.getClass().getName()
+                            + " : " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Object newInstance(Class<?> cls, MethodHandle constructor) throws Exception {
+        if (constructor == null) {
+            return cls.getDeclaredConstructor().newInstance();
+        }
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Construction impossible de " + cls.getName(), t);
+        }
+    }
+
+    private interface InstanceProvider {
+        Object acquire() throws Exception;
+
+        void release(Object instance);
+
+        Scope scope();
+
+        List<Object> retained();
+    }
+
+    private static final class SingletonProvider implements InstanceProvider {
+        private final Object instance;
+
+        SingletonProvider(Class<?> cls, MethodHandle constructor) {
+            try {
+                this.instance = newInstance(cls, constructor);
+            } catch (Exception e) {
+                throw new IllegalStateException("[Sprint] Impossible de créer le contrôleur singleton "
+                        + cls.getName(), e);
+            }
+        }
+
+        @Override
+        public Object acquire() {
+            return instance;
+        }
+
+        @Override
+        public void release(Object instance) {
+        }
+
+        @Override
+        public Scope scope() {
+            return Scope.SINGLETON;
+        }
+
+        @Override
+        public List<Object> retained() {
+            return List.of(instance);
+        }
+    }
+
+    private static final class RequestProvider implements InstanceProvider {
+        private final Class<?> cls;
+        private final MethodHandle constructor;
+
+        RequestProvider(Class<?> cls, MethodHandle constructor) {
+            this.cls = cls;
+            this.constructor = constructor;
+        }
+
+        @Override
+        public Object acquire() throws Exception {
+            return newInstance(cls, constructor);
+        }
+
+        @Override
+        public void release(Object instance) {
+        }
+
+        @Override
+        public Scope scope() {
+            return Scope.REQUEST;
+        }
+
+        @Override
+        public List<Object> retained() {
+            return List.of();
+        }
+    }
+
+    private static final class PooledProvider implements InstanceProvider {
+        private final Class<?> cls;
+        private final MethodHandle constructor;
+        private final int maxSize;
+        private final BlockingQueue<Object> idle;
+        private final AtomicInteger created = new AtomicInteger();
+
+        PooledProvider(Class<?> cls, MethodHandle constructor, int maxSize) {
+            this.cls = cls;
+            this.constructor = constructor;
+            this.maxSize = maxSize;
+            this.idle = new ArrayBlockingQueue<>(maxSize);
+        }
+
+        @Override
+        public Object acquire() throws Exception {
+            Object instance = idle.poll();
+            if (instance != null) {
+                return instance;
+            }
+            // Création paresseuse tant que le pool n'a pas atteint sa taille maximale
+            int count;
+            while ((count = created.get()) < maxSize) {
+                if (created.compareAndSet(count, count + 1)) {
+                    try {
+                        return newInstance(cls, constructor);
+                    } catch (Exception | Error e) {
+                        created.decrementAndGet();
+                        throw e;
+                    }
+                }
+            }
+            instance = idle.poll(POOL_WAIT_SECONDS, TimeUnit.SECONDS);
+            if (instance == null) {
+                throw new IllegalStateException("[Sprint] Pool épuisé pour " + cls.getName()
+                        + " (" + maxSize + " instances)");
+            }
+            return instance;
+        }
+
+        @Override
+        public void release(Object instance) {
+            idle.offer(instance);
+        }
+
+        @Override
+        public Scope scope() {
+            return Scope.POOLED;
+        }
+
+        @Override
+        public List<Object> retained() {
+            return new ArrayList<>(idle);
+        }
+    }
+}
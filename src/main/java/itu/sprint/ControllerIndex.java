@@ -0,0 +1,72 @@
+package itu.sprint;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Index des contrôleurs généré à la compilation par
+ * {@link itu.sprint.processor.ControllerIndexProcessor}. Une ligne par
+ * contrôleur (nom binaire de la classe), suivie d'une ligne par route :
+ * <pre>
+ * app.UserController
+ * app.UserController	GET	/users/{id}	show
+ * </pre>
+ * Chaque JAR ou répertoire de classes peut fournir son propre fichier,
+ * écrit en UTF-8 ; il ne vaut que pour la racine qui le contient.
+ */
+public final class ControllerIndex {
+
+    public static final String LOCATION = "META-INF/sprint/controllers.idx";
+    public static final String HEADER = "# Index des contrôleurs Sprint (généré, ne pas modifier)";
+
+    private ControllerIndex() {
+    }
+
+    /**
+     * Noms des contrôleurs listés dans l'index d'une racine (répertoire de
+     * classes ou JAR), ou null si elle n'en fournit pas.
+     */
+    public static Set<String> readClassNames(File root) throws IOException {
+        if (root.isDirectory()) {
+            File file = new File(root, LOCATION);
+            if (!file.isFile()) {
+                return null;
+            }
+            try (InputStream in = new FileInputStream(file)) {
+                return read(in);
+            }
+        }
+        try (JarFile jar = new JarFile(root)) {
+            JarEntry entry = jar.getJarEntry(LOCATION);
+            if (entry == null) {
+                return null;
+            }
+            try (InputStream in = jar.getInputStream(entry)) {
+                return read(in);
+            }
+        }
+    }
+
+    private static Set<String> read(InputStream in) throws IOException {
+        Set<String> names = new LinkedHashSet<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            int tab = line.indexOf('\t');
+            names.add((tab < 0 ? line : line.substring(0, tab)).trim());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,237 @@
+package itu.sprint;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import itu.sprint.util.ClassFileAnnotations;
+import itu.sprint.util.RouteTable;
+import itu.sprint.util.RouteTableHolder;
+import itu.sprint.util.UrlMapping;
+import jakarta.servlet.ServletContext;
+
+/**
+ * Rechargement à chaud des contrôleurs en mode développement
+ * ({@code sprint.devMode=true}) : WEB-INF/classes est surveillé et les
+ * contrôleurs recompilés sont rechargés dans un chargeur enfant, sans
+ * redémarrer le contexte.
+ * <p>
+ * Les routes ne sont jamais modifiées en place : une nouvelle table
+ * (routes inchangées + routes rechargées) est construite puis publiée d'un
+ * bloc ; une requête voit l'ancienne table ou la nouvelle, sans verrou.
+ * Seules les classes contrôleurs sont rechargées : un autre type modifié
+ * (DTO, service) reste dans sa version chargée au déploiement.
+ */
+final class ControllerReloader implements Runnable {
+
+    static final String ATTR = "sprint.reloader";
+    private static final String CONTROLLER_ANNOTATION = "AnnotationController";
+    private static final String CLASS_EXTENSION = ".class";
+    // Une recompilation écrit plusieurs fichiers : on attend le calme avant de recharger
+    private static final long QUIET_MILLIS = 300;
+
+    private final ServletContext context;
+    private final Path root;
+    private final ClassLoader parent;
+    private final WatchService service;
+
+    private ControllerReloader(ServletContext context, Path root, ClassLoader parent) throws IOException {
+        this.context = context;
+        this.root = root;
+        this.parent = parent;
+        this.service = FileSystems.getDefault().newWatchService();
+        registerTree(root);
+    }
+
+    /**
+     * Démarre la surveillance ; null si WEB-INF/classes n'est pas un
+     * répertoire (application déployée en archive non dépliée).
+     */
+    static ControllerReloader start(ServletContext context) {
+        String classesPath = context.getRealPath("/WEB-INF/classes");
+        if (classesPath == null || !new File(classesPath).isDirectory()) {
+            Log.warn("Rechargement à chaud indisponible : WEB-INF/classes introuvable");
+            return null;
+        }
+        ClassLoader parent = Thread.currentThread().getContextClassLoader();
+        if (parent == null) {
+            parent = ControllerReloader.class.getClassLoader();
+        }
+        try {
+            ControllerReloader reloader = new ControllerReloader(context, Path.of(classesPath), parent);
+            Thread thread = new Thread(reloader, "sprint-controller-reload");
+            thread.setDaemon(true);
+            thread.setContextClassLoader(parent);
+            thread.start();
+            Log.info("Rechargement à chaud actif sur " + classesPath);
+            return reloader;
+        } catch (IOException e) {
+            Log.warn("Surveillance de " + classesPath + " impossible : " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void registerTree(Path start) throws IOException {
+        try (Stream<Path> dirs = Files.walk(start)) {
+            for (Path dir : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator) {
+                dir.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                Set<String> changed = new LinkedHashSet<>();
+                WatchKey key = service.take();
+                do {
+                    handle(key, changed);
+                    key = service.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+                } while (key != null);
+                if (!changed.isEmpty()) {
+                    reload(changed);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // arrêt demandé
+        }
+    }
+
+    /**
+     * Relève les classes de premier niveau touchées (A$B.class désigne A).
+     */
+    private void handle(WatchKey key, Set<String> changed) {
+        Path dir = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                continue;
+            }
+            Path path = dir.resolve((Path) event.context());
+            String name = path.getFileName().toString();
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    registerTree(path);
+                } catch (IOException e) {
+                    Log.warn("Surveillance impossible : " + path);
+                }
+            } else if (name.endsWith(CLASS_EXTENSION)) {
+                String relative = root.relativize(path).toString().replace(File.separatorChar, '/');
+                String className = relative.substring(0, relative.length() - CLASS_EXTENSION.length()).replace('/', '.');
+                int dollar = className.indexOf('$');
+                changed.add(dollar < 0 ? className : className.substring(0, dollar));
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Recharge les contrôleurs modifiés et publie la nouvelle table. Une
+     * classe supprimée, ou qui n'est plus contrôleur, perd ses routes.
+     */
+    private void reload(Set<String> changed) {
+        Set<String> reloadable = new LinkedHashSet<>();
+        for (String className : changed) {
+            File file = root.resolve(className.replace('.', '/') + CLASS_EXTENSION).toFile();
+            if (file.isFile() && ClassFileAnnotations.isAnnotated(file, CONTROLLER_ANNOTATION, ClassFileAnnotations.ON_CLASS)) {
+                reloadable.add(className);
+            }
+        }
+        if (reloadable.isEmpty() && !isMapped(changed)) {
+            return;
+        }
+        try {
+            List<Class<?>> controllers = new ArrayList<>();
+            if (!reloadable.isEmpty()) {
+                ReloadingClassLoader loader = new ReloadingClassLoader(root.toUri().toURL(), parent, reloadable);
+                for (String className : reloadable) {
+                    Class<?> cls = Class.forName(className, false, loader);
+                    if (ControllerScanner.isController(cls)) {
+                        controllers.add(cls);
+                    }
+                }
+            }
+            List<UrlMapping> reloaded = ControllerScanner.buildMappings(controllers);
+            if (!ContextInitializer.update(context, current -> current.copyMappings(changed, reloaded))) {
+                return;
+            }
+            RouteBootstrap.warmUp(reloaded);
+            Log.info("Contrôleurs rechargés : " + controllers.size()
+                    + " (" + reloaded.size() + " URL(s)) après modification de " + changed);
+        } catch (ClassNotFoundException | LinkageError | MalformedURLException | RuntimeException e) {
+            // La table en place reste servie : l'erreur de compilation sera corrigée au prochain passage
+            Log.error("Rechargement impossible de " + changed + " : " + e);
+        }
+    }
+
+    private boolean isMapped(Set<String> classNames) {
+        RouteTable routes = RouteTableHolder.of(context).get();
+        if (routes != null) {
+            for (Class<?> cls : routes.getControllerClasses()) {
+                if (classNames.contains(cls.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    void close() {
+        try {
+            service.close();
+        } catch (IOException e) {
+            // ignoré
+        }
+    }
+
+    /**
+     * Charge en priorité, depuis WEB-INF/classes, les classes rechargées et
+     * leurs classes internes ; tout le reste est délégué au chargeur de
+     * l'application.
+     */
+    private static final class ReloadingClassLoader extends URLClassLoader {
+        private final Set<String> classNames;
+
+        ReloadingClassLoader(URL classes, ClassLoader parent, Set<String> classNames) {
+            super(new URL[] { classes }, parent);
+            this.classNames = classNames;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            int dollar = name.indexOf('$');
+            if (!classNames.contains(dollar < 0 ? name : name.substring(0, dollar))) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> cls = findLoadedClass(name);
+                if (cls == null) {
+                    cls = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(cls);
+                }
+                return cls;
+            }
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package itu.sprint;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -13,16 +16,22 @@ import java.util.stream.Collectors;
 import java.util.ArrayList;
 
 import itu.sprint.annotation.MapURL;
+import itu.sprint.util.ClassFileAnnotations;
+import itu.sprint.util.ClassPathScanner;
 import itu.sprint.util.UrlMapping;
 import itu.sprint.util.UrlPattern;
 import jakarta.servlet.ServletContext;
 
 public final class ControllerScanner {
 
-    public static final String CONTROLLERS_MAP_ATTR = "sprint.controllersMap";
+    /**
+     * auto (index pour les racines qui en fournissent un, parcours pour les
+     * autres), index (racines indexées seulement, parcours complet s'il n'y
+     * en a aucune) ou classpath (jamais d'index)
+     */
+    public static final String SCAN_MODE_PARAM = "sprint.scan.mode";
     private static final String CONTROLLER_ANNOTATION = "AnnotationController";
     private static final String MAP_URL_ANNOTATION = "MapURL";
-    private static final String CLASS_EXTENSION = ".class";
 
     private ControllerScanner() {
     }
@@ -39,24 +48,118 @@ public final class ControllerScanner {
      * web application's WEB-INF/classes directory provided by the ServletContext.
      */
     public static List<UrlMapping> scanControllers(ServletContext servletContext) {
-        Set<Class<?>> candidates = findAnnotatedClasses();
+        String mode = SprintConfig.get(servletContext, SCAN_MODE_PARAM);
+        List<File> roots = classPathRoots(servletContext);
+        ScanCache cache = ScanCache.open(servletContext);
+        Map<File, String> fingerprints = new LinkedHashMap<>();
+        Map<File, ScanCache.Entry> unchanged = new HashMap<>();
+        Map<File, Set<String>> namesByRoot = findControllerNames(roots, mode, cache, fingerprints, unchanged);
 
-        // If we're running inside a servlet container, try to scan WEB-INF/classes
-        if (servletContext != null) {
+        // Racine inchangée : routes du cache ; sinon chargement et introspection des contrôleurs
+        List<UrlMapping> mappings = new ArrayList<>();
+        ClassLoader loader = contextClassLoader();
+        for (Map.Entry<File, Set<String>> root : namesByRoot.entrySet()) {
+            ScanCache.Entry entry = unchanged.get(root.getKey());
+            if (entry != null && addCachedRoutes(mappings, entry, loader)) {
+                continue;
+            }
+            Set<Class<?>> candidates = new LinkedHashSet<>();
+            root.getValue().forEach(className -> tryLoadAndCheck(className, CONTROLLER_ANNOTATION, candidates));
+            addMappings(mappings, candidates);
+        }
+        if (cache != null) {
+            cache.save(fingerprints, namesByRoot, mappings);
+        }
+        return mappings;
+    }
+
+    /**
+     * Routes enregistrées par le dernier démarrage dans le cache de scan,
+     * sans parcours du classpath ni vérification des empreintes : de quoi
+     * servir les requêtes en attendant {@link #scanControllers(ServletContext)}.
+     * Les routes dont la classe ou la méthode a disparu sont ignorées ; liste
+     * vide s'il n'y a pas de cache.
+     */
+    public static List<UrlMapping> loadCachedMappings(ServletContext servletContext) {
+        List<UrlMapping> mappings = new ArrayList<>();
+        ScanCache cache = ScanCache.open(servletContext);
+        if (cache == null) {
+            return mappings;
+        }
+        ClassLoader loader = contextClassLoader();
+        for (ScanCache.Entry entry : cache.entries()) {
+            for (ScanCache.Route route : entry.routes) {
+                try {
+                    Class<?> cls = Class.forName(route.className, false, loader);
+                    Method method = findBySignature(cls, route.signature);
+                    if (method != null && isAnnotatedWithSimpleName(cls, CONTROLLER_ANNOTATION)) {
+                        findOrCreateMapping(mappings, new UrlPattern(route.url)).addMethod(cls, method);
+                    }
+                } catch (ClassNotFoundException | LinkageError e) {
+                    // Entrée périmée : le scan complet tranchera
+                }
+            }
+        }
+        return mappings;
+    }
+
+    /**
+     * Ajoute les routes d'une racine dont l'empreinte n'a pas changé, telles
+     * qu'enregistrées dans le cache : les classes sont chargées (il faut leurs
+     * Method) mais ni leurs annotations ni leurs méthodes ne sont réexaminées.
+     * Retourne false sans rien ajouter si une classe ou une méthode manque.
+     */
+    private static boolean addCachedRoutes(List<UrlMapping> mappings, ScanCache.Entry entry, ClassLoader loader) {
+        Map<String, Map<String, Method>> methodsByClass = new HashMap<>();
+        List<Class<?>> classes = new ArrayList<>();
+        List<Method> methods = new ArrayList<>();
+        for (ScanCache.Route route : entry.routes) {
+            Map<String, Method> bySignature = methodsByClass.get(route.className);
             try {
-                String classesPath = servletContext.getRealPath("/WEB-INF/classes");
-                if (classesPath != null) {
-                    File classesDir = new File(classesPath);
-                    if (classesDir.exists() && classesDir.isDirectory()) {
-                        findClassesInDirectory(classesDir, "", CONTROLLER_ANNOTATION, candidates);
+                if (bySignature == null) {
+                    bySignature = new HashMap<>();
+                    for (Method method : Class.forName(route.className, false, loader).getDeclaredMethods()) {
+                        bySignature.put(ScanCache.signature(method), method);
                     }
+                    methodsByClass.put(route.className, bySignature);
                 }
-            } catch (Throwable ignored) {
-                // Ignore, fall back to classpath-only scanning
+            } catch (ClassNotFoundException | LinkageError e) {
+                return false;
+            }
+            Method method = bySignature.get(route.signature);
+            if (method == null) {
+                return false;
             }
+            classes.add(method.getDeclaringClass());
+            methods.add(method);
         }
+        for (int i = 0; i < methods.size(); i++) {
+            findOrCreateMapping(mappings, new UrlPattern(entry.routes.get(i).url)).addMethod(classes.get(i), methods.get(i));
+        }
+        return true;
+    }
+
+    private static Method findBySignature(Class<?> cls, String signature) {
+        for (Method method : cls.getDeclaredMethods()) {
+            if (ScanCache.signature(method).equals(signature)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static ClassLoader contextClassLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : ControllerScanner.class.getClassLoader();
+    }
+
+    static List<UrlMapping> buildMappings(Collection<Class<?>> candidates) {
         List<UrlMapping> mappings = new ArrayList<>();
+        addMappings(mappings, candidates);
+        return mappings;
+    }
 
+    private static void addMappings(List<UrlMapping> mappings, Collection<Class<?>> candidates) {
         for (Class<?> cls : candidates) {
             List<Method> mapped = extractMappedMethods(cls);
             for (Method m : mapped) {
@@ -76,8 +179,6 @@ public final class ControllerScanner {
                 mapping.addMethod(cls, m);
             }
         }
-
-        return mappings;
     }
 
     private static UrlMapping findOrCreateMapping(List<UrlMapping> mappings, UrlPattern pattern) {
@@ -114,55 +215,104 @@ public final class ControllerScanner {
     }
 
     /**
-     * Trouve toutes les classes annotées avec le nom simple donné.
-     */
-    private static Set<Class<?>> findAnnotatedClasses() {
-        Set<Class<?>> classes = new HashSet<>();
-        scanClassPath(classes);
-
-        return classes;
-    }
-
-    /**
-     * Scanne les entrées du classpath système.
+     * Racines à parcourir : entrées de java.class.path, puis, dans un
+     * conteneur, WEB-INF/classes et les JAR de WEB-INF/lib.
      */
-    private static void scanClassPath(Set<Class<?>> classes) {
+    private static List<File> classPathRoots(ServletContext servletContext) {
+        List<File> roots = new ArrayList<>();
         String classPath = System.getProperty("java.class.path", "");
-        if (classPath.isEmpty()) return;
-
-        Arrays.stream(classPath.split(File.pathSeparator))
-                .map(File::new)
-                .forEach(file -> processClassPathEntry(file, classes));
+        if (!classPath.isEmpty()) {
+            for (String entry : classPath.split(File.pathSeparator)) {
+                roots.add(new File(entry));
+            }
+        }
+        if (servletContext != null) {
+            String classesPath = servletContext.getRealPath("/WEB-INF/classes");
+            if (classesPath != null) {
+                roots.add(new File(classesPath));
+            }
+            String libPath = servletContext.getRealPath("/WEB-INF/lib");
+            File[] jars = libPath != null ? new File(libPath).listFiles(ClassPathScanner::isJar) : null;
+            if (jars != null) {
+                Arrays.sort(jars);
+                roots.addAll(Arrays.asList(jars));
+            }
+        }
+        return roots;
     }
 
     /**
-     * Traite une entrée du classpath (répertoire ou JAR).
+     * Noms des contrôleurs par racine : repris du cache quand l'empreinte de
+     * la racine n'a pas changé (l'entrée est alors rangée dans
+     * {@code unchanged}), sinon lus dans l'index de la racine s'il y en a un,
+     * sinon obtenus par un parcours parallèle du bytecode limité aux racines
+     * restantes. Le temps passé par racine parcourue est affiché, du plus
+     * coûteux au moins coûteux.
      */
-    private static void processClassPathEntry(File file, Set<Class<?>> classes) {
-        try {
-            if (file.isDirectory()) {
-                findClassesInDirectory(file, "", ControllerScanner.CONTROLLER_ANNOTATION, classes);
+    private static Map<File, Set<String>> findControllerNames(List<File> roots, String mode, ScanCache cache,
+                                                              Map<File, String> fingerprints,
+                                                              Map<File, ScanCache.Entry> unchanged) {
+        long start = System.nanoTime();
+        boolean useIndex = !"classpath".equalsIgnoreCase(mode);
+        Map<File, Set<String>> namesByRoot = new LinkedHashMap<>();
+        List<File> toScan = new ArrayList<>();
+        int indexed = 0;
+        for (File root : roots) {
+            if (namesByRoot.containsKey(root) || !(root.isDirectory() || ClassPathScanner.isJar(root))) {
+                continue;
+            }
+            if (cache != null) {
+                String fingerprint = ScanCache.fingerprint(root);
+                fingerprints.put(root, fingerprint);
+                ScanCache.Entry entry = cache.lookup(root, fingerprint);
+                if (entry != null) {
+                    namesByRoot.put(root, entry.classNames);
+                    unchanged.put(root, entry);
+                    continue;
+                }
+            }
+            Set<String> names = useIndex ? readIndex(root) : null;
+            if (names != null) {
+                namesByRoot.put(root, names);
+                indexed++;
+                continue;
+            }
+            namesByRoot.put(root, null);
+            toScan.add(root);
+        }
+        if ("index".equalsIgnoreCase(mode)) {
+            if (indexed > 0) {
+                // Index seul : les racines sans index ne sont pas parcourues
+                toScan.clear();
+            } else {
+                Log.warn("Aucun " + ControllerIndex.LOCATION + " trouvé : parcours du classpath");
             }
-        } catch (Throwable ignored) {
-            // Ignore les erreurs
         }
+
+        Map<File, ClassPathScanner.Result> results =
+                new ClassPathScanner(CONTROLLER_ANNOTATION, ClassFileAnnotations.ON_CLASS, null).scan(toScan);
+        results.forEach((root, result) -> namesByRoot.put(root, result.getClassNames()));
+        namesByRoot.values().removeIf(names -> names == null);
+
+        Log.info("Scan du classpath : " + results.size() + " racine(s) parcourue(s), " + indexed + " indexée(s), "
+                + unchanged.size() + " reprise(s) du cache, "
+                + (System.nanoTime() - start) / 1_000_000 + " ms");
+        results.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().getMillis(), a.getValue().getMillis()))
+                .forEach(e -> Log.info("  " + e.getValue().getMillis() + " ms  "
+                        + e.getValue().getClassNames().size() + " contrôleur(s)  " + e.getKey()));
+        return namesByRoot;
     }
 
     /**
-     * Trouve récursivement les classes dans un répertoire.
+     * Contrôleurs listés dans l'index de la racine, ou null pour la parcourir.
      */
-    private static void findClassesInDirectory(File directory, String packageName,
-                                               String simpleName, Set<Class<?>> classes) {
-        File[] files = directory.listFiles();
-        if (files == null) return;
-
-        for (File file : files) {
-            if (file.isDirectory()) {
-                findClassesInDirectory(file, packageName + file.getName() + ".", simpleName, classes);
-            } else if (file.getName().endsWith(CLASS_EXTENSION)) {
-                String className = packageName + file.getName().replace(CLASS_EXTENSION, "");
-                tryLoadAndCheck(className, simpleName, classes);
-            }
+    private static Set<String> readIndex(File root) {
+        try {
+            return ControllerIndex.readClassNames(root);
+        } catch (IOException e) {
+            Log.warn("Lecture de l'index de " + root + " impossible : " + e.getMessage());
+            return null;
         }
     }
 
@@ -180,6 +330,10 @@ public final class ControllerScanner {
         }
     }
 
+    static boolean isController(Class<?> cls) {
+        return isAnnotatedWithSimpleName(cls, CONTROLLER_ANNOTATION);
+    }
+
     /**
      * Vérifie si un élément est annoté avec une annotation ayant le nom simple donné.
      */
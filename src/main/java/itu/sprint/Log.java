@@ -0,0 +1,275 @@
+package itu.sprint;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import jakarta.servlet.ServletContext;
+
+/**
+ * Journal du framework : « [Sprint] message », « [Sprint][WARN] ... »,
+ * « [Sprint][ERROR] ... », « [Sprint][DEBUG] ... ».
+ * <p>
+ * Le niveau ({@code sprint.log.level}, INFO par défaut) est testé avant
+ * toute construction de message ; pour un message coûteux, passer un
+ * {@link Supplier} ou tester {@link #isDebugEnabled()}. Une fois
+ * {@link #configure(ServletContext)} appelé, les lignes passent par un
+ * tampon circulaire vidé par le thread "sprint-log" : un thread de requête
+ * n'écrit jamais lui-même sur System.out. Tampon plein : DEBUG et INFO sont
+ * abandonnés (et comptés), WARN et ERROR écrits directement.
+ */
+public final class Log {
+
+    public enum Level { DEBUG, INFO, WARN, ERROR, OFF }
+
+    public static final String LEVEL_PARAM = "sprint.log.level";
+    /** true (défaut) : écriture par le thread de fond ; false : écriture directe */
+    public static final String ASYNC_PARAM = "sprint.log.async";
+    public static final String BUFFER_PARAM = "sprint.log.bufferSize";
+    private static final int DEFAULT_BUFFER = 8192;
+
+    private static volatile int threshold = Level.INFO.ordinal();
+    private static volatile Appender appender;
+    private static final LongAdder dropped = new LongAdder();
+
+    private Log() {
+    }
+
+    /**
+     * Lit la configuration du contexte et démarre l'écriture asynchrone.
+     */
+    public static synchronized void configure(ServletContext context) {
+        String level = SprintConfig.get(context, LEVEL_PARAM);
+        if (level != null && !level.isEmpty()) {
+            try {
+                setLevel(Level.valueOf(level.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                warn("Niveau de journal inconnu : " + level);
+            }
+        }
+        if (appender == null && SprintConfig.getBoolean(context, ASYNC_PARAM, true)) {
+            long size = SprintConfig.getLong(context, BUFFER_PARAM, DEFAULT_BUFFER);
+            appender = new Appender((int) Math.max(64, Math.min(size, 1 << 20)));
+        }
+    }
+
+    /**
+     * Vide le tampon puis arrête le thread d'écriture.
+     */
+    public static synchronized void shutdown() {
+        Appender current = appender;
+        appender = null;
+        if (current != null) {
+            current.stop();
+        }
+        long lost = dropped.sumThenReset();
+        if (lost > 0) {
+            System.err.println("[Sprint][WARN] Lignes de journal abandonnées (tampon plein) : " + lost);
+        }
+    }
+
+    public static void setLevel(Level level) {
+        threshold = level.ordinal();
+    }
+
+    public static boolean isDebugEnabled() {
+        return threshold <= Level.DEBUG.ordinal();
+    }
+
+    public static boolean isEnabled(Level level) {
+        return level != Level.OFF && threshold <= level.ordinal();
+    }
+
+    public static void debug(String message) {
+        if (isDebugEnabled()) {
+            log(Level.DEBUG, message, null);
+        }
+    }
+
+    public static void debug(Supplier<String> message) {
+        if (isDebugEnabled()) {
+            log(Level.DEBUG, message.get(), null);
+        }
+    }
+
+    public static void info(String message) {
+        if (isEnabled(Level.INFO)) {
+            log(Level.INFO, message, null);
+        }
+    }
+
+    public static void info(Supplier<String> message) {
+        if (isEnabled(Level.INFO)) {
+            log(Level.INFO, message.get(), null);
+        }
+    }
+
+    public static void warn(String message) {
+        warn(message, null);
+    }
+
+    public static void warn(String message, Throwable error) {
+        if (isEnabled(Level.WARN)) {
+            log(Level.WARN, message, error);
+        }
+    }
+
+    public static void error(String message) {
+        error(message, null);
+    }
+
+    public static void error(String message, Throwable error) {
+        if (isEnabled(Level.ERROR)) {
+            log(Level.ERROR, message, error);
+        }
+    }
+
+    /** Lignes DEBUG/INFO perdues faute de place dans le tampon. */
+    public static long getDropped() {
+        return dropped.sum();
+    }
+
+    private static void log(Level level, String message, Throwable error) {
+        Record record = new Record(level, message, error);
+        Appender current = appender;
+        if (current != null && current.offer(record)) {
+            return;
+        }
+        if (current != null && level.ordinal() < Level.WARN.ordinal()) {
+            dropped.increment();
+            return;
+        }
+        record.write();
+    }
+
+    private static final class Record {
+        final Level level;
+        final String message;
+        final Throwable error;
+
+        Record(Level level, String message, Throwable error) {
+            this.level = level;
+            this.message = message;
+            this.error = error;
+        }
+
+        void write() {
+            PrintStream out = level.ordinal() >= Level.WARN.ordinal() ? System.err : System.out;
+            out.println(level == Level.INFO ? "[Sprint] " + message : "[Sprint][" + level + "] " + message);
+            if (error != null) {
+                error.printStackTrace(out);
+            }
+        }
+    }
+
+    /**
+     * Tampon circulaire borné, plusieurs producteurs et un seul
+     * consommateur, sans verrou : chaque case porte un numéro de séquence
+     * qui indique si elle est libre (= position) ou remplie (= position + 1).
+     * Tampon vide, le consommateur dort sans délai ; le producteur qui le
+     * trouve endormi le réveille. Un serveur inactif ne réveille donc jamais
+     * le thread "sprint-log".
+     */
+    private static final class Appender implements Runnable {
+        private final int mask;
+        private final AtomicReferenceArray<Record> slots;
+        private final AtomicLongArray sequences;
+        private final AtomicLong tail = new AtomicLong();
+        private long head;
+        private final Thread thread;
+        private volatile boolean running = true;
+        // Vrai pendant que le consommateur s'apprête à dormir ou dort
+        private volatile boolean sleeping;
+
+        Appender(int requested) {
+            int capacity = Integer.highestOneBit(requested - 1) << 1;
+            this.mask = capacity - 1;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+            this.thread = new Thread(this, "sprint-log");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        boolean offer(Record record) {
+            while (true) {
+                long position = tail.get();
+                int index = (int) position & mask;
+                long diff = sequences.get(index) - position;
+                if (diff == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        slots.set(index, record);
+                        sequences.set(index, position + 1);
+                        if (sleeping) {
+                            LockSupport.unpark(thread);
+                        }
+                        return true;
+                    }
+                } else if (diff < 0) {
+                    return false; // plein
+                }
+                // sinon un autre producteur a pris la case : on relit
+            }
+        }
+
+        private Record poll() {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                return null;
+            }
+            Record record = slots.get(index);
+            slots.set(index, null);
+            sequences.set(index, head + mask + 1);
+            head++;
+            return record;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                if (drain()) {
+                    continue;
+                }
+                sleeping = true;
+                // Relecture après l'annonce : une ligne publiée entre-temps a vu sleeping ou est vue ici
+                if (running && !hasNext()) {
+                    LockSupport.park(this);
+                }
+                sleeping = false;
+            }
+            drain();
+        }
+
+        private boolean hasNext() {
+            return sequences.get((int) head & mask) == head + 1;
+        }
+
+        private boolean drain() {
+            boolean any = false;
+            Record record;
+            while ((record = poll()) != null) {
+                record.write();
+                any = true;
+            }
+            return any;
+        }
+
+        void stop() {
+            running = false;
+            LockSupport.unpark(thread);
+            try {
+                thread.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package itu.sprint;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import itu.sprint.util.HandlerPlan;
+import itu.sprint.util.RouteTableHolder;
+import itu.sprint.util.UrlMapping;
+import jakarta.servlet.ServletContext;
+
+/**
+ * Démarrage paresseux ({@code sprint.startup=lazy}) : le listener rend la
+ * main au conteneur sans attendre le scan des contrôleurs.
+ * <ol>
+ * <li>les routes du cache de scan (démarrage précédent) sont publiées tout
+ * de suite si elles existent ;</li>
+ * <li>un thread construit les routes définitives, les publie à la place
+ * des précédentes puis prépare les plans (métadonnées JSON).</li>
+ * </ol>
+ * Une requête arrivée avant toute publication attend au plus
+ * {@code sprint.startup.waitMillis} ms.
+ */
+public final class RouteBootstrap {
+
+    public static final String ATTR = "sprint.bootstrap";
+    /** eager (défaut) ou lazy */
+    public static final String STARTUP_PARAM = "sprint.startup";
+    public static final String WAIT_PARAM = "sprint.startup.waitMillis";
+    private static final long DEFAULT_WAIT_MILLIS = 30_000;
+
+    private final ServletContext context;
+    private final long waitMillis;
+    // Ouvert dès que des routes (provisoires ou définitives) sont publiées, ou en cas d'échec
+    private final CountDownLatch published = new CountDownLatch(1);
+    private volatile Throwable failure;
+    private Thread thread;
+
+    RouteBootstrap(ServletContext context) {
+        this.context = context;
+        this.waitMillis = Math.max(0, SprintConfig.getLong(context, WAIT_PARAM, DEFAULT_WAIT_MILLIS));
+    }
+
+    static boolean isLazy(ServletContext context) {
+        return "lazy".equalsIgnoreCase(SprintConfig.get(context, STARTUP_PARAM));
+    }
+
+    void start() {
+        try {
+            List<UrlMapping> cached = ControllerScanner.loadCachedMappings(context);
+            if (!cached.isEmpty() && ContextInitializer.publish(context, cached)) {
+                published.countDown();
+                Log.info("Routes du cache publiées en attendant le scan : " + cached.size());
+            }
+        } catch (RuntimeException e) {
+            Log.warn("Routes du cache inutilisables : " + e.getMessage());
+        }
+        thread = new Thread(this::run, "sprint-route-bootstrap");
+        thread.setDaemon(true);
+        // Le scan passe par le chargeur de contexte : celui de l'application
+        thread.setContextClassLoader(Thread.currentThread().getContextClassLoader());
+        thread.start();
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        try {
+            List<UrlMapping> mappings = ControllerScanner.scanControllers(context);
+            if (!ContextInitializer.publish(context, mappings)) {
+                // Arrêt pendant le scan : aucun contrôleur n'a été créé
+                return;
+            }
+            published.countDown();
+            warmUp(mappings);
+            Log.info("Routes prêtes : " + mappings.size() + " URL(s), "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+        } catch (Throwable t) {
+            failure = t;
+            Log.error("Construction des routes impossible", t);
+        } finally {
+            published.countDown();
+        }
+    }
+
+    /**
+     * Attend que des routes soient publiées ; faux si le délai est dépassé
+     * ou si leur construction a échoué.
+     */
+    public boolean awaitRoutes() {
+        try {
+            return published.await(waitMillis, TimeUnit.MILLISECONDS)
+                    && RouteTableHolder.of(context).get() != null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    /**
+     * Interrompt le scan en cours ; une publication qu'il tenterait ensuite
+     * est refusée par {@link ContextInitializer}, déjà marqué arrêté.
+     */
+    void stop() {
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Prépare chaque plan pour que la première requête d'une route ne paie
+     * pas l'introspection ; une erreur n'empêche pas de servir la route.
+     */
+    static void warmUp(List<UrlMapping> mappings) {
+        for (UrlMapping mapping : mappings) {
+            for (HandlerPlan plan : mapping.getPlans()) {
+                try {
+                    plan.warmUp();
+                } catch (RuntimeException | LinkageError e) {
+                    Log.warn("Préparation de " + plan.getControllerClass().getName()
+                            + "#" + plan.getMethod().getName() + " : " + e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package itu.sprint;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import itu.sprint.util.ClassPathScanner;
+import itu.sprint.util.HandlerPlan;
+import itu.sprint.util.UrlMapping;
+import jakarta.servlet.ServletContext;
+
+/**
+ * Résultat du parcours du classpath conservé d'un démarrage à l'autre
+ * (fichier texte sous le répertoire de travail du contexte). Chaque racine
+ * y figure avec son empreinte, ses contrôleurs et leurs routes ; une racine
+ * dont l'empreinte n'a pas changé n'est pas reparcourue et ses routes sont
+ * reprises sans réexaminer les annotations.
+ * <pre>
+ * root	/.../WEB-INF/lib/app.jar	8f3a...
+ * class	app.UserController
+ * route	app.UserController	show(java.lang.String)	GET	/users/{id}
+ * </pre>
+ */
+final class ScanCache {
+
+    static final String ENABLED_PARAM = "sprint.scan.cache";
+    private static final String FILE_NAME = "sprint-scan.cache";
+    private static final String HEADER = "# sprint scan cache v1";
+
+    /**
+     * Contrôleurs et routes d'une racine.
+     */
+    static final class Entry {
+        final String fingerprint;
+        final Set<String> classNames = new LinkedHashSet<>();
+        final List<Route> routes = new ArrayList<>();
+
+        Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * Route telle qu'enregistrée : méthode identifiée par sa signature.
+     */
+    static final class Route {
+        final String className;
+        final String signature;
+        final String httpMethod;
+        final String url;
+
+        Route(String className, String signature, String httpMethod, String url) {
+            this.className = className;
+            this.signature = signature;
+            this.httpMethod = httpMethod;
+            this.url = url;
+        }
+    }
+
+    private final File file;
+    private final Map<String, Entry> entries;
+
+    private ScanCache(File file, Map<String, Entry> entries) {
+        this.file = file;
+        this.entries = entries;
+    }
+
+    /**
+     * Cache du contexte, ou null s'il est désactivé ou sans répertoire de travail.
+     */
+    static ScanCache open(ServletContext context) {
+        if (!SprintConfig.getBoolean(context, ENABLED_PARAM, true)) {
+            return null;
+        }
+        Object tempDir = context != null ? context.getAttribute(ServletContext.TEMPDIR) : null;
+        if (!(tempDir instanceof File)) {
+            return null;
+        }
+        File file = new File((File) tempDir, FILE_NAME);
+        return new ScanCache(file, read(file));
+    }
+
+    private static Map<String, Entry> read(File file) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        if (!file.isFile()) {
+            return entries;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                return entries;
+            }
+            Entry current = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t");
+                if (parts[0].equals("root") && parts.length == 3) {
+                    current = new Entry(parts[2]);
+                    entries.put(parts[1], current);
+                } else if (current != null && parts[0].equals("class") && parts.length == 2) {
+                    current.classNames.add(parts[1]);
+                } else if (current != null && parts[0].equals("route") && parts.length == 5) {
+                    current.routes.add(new Route(parts[1], parts[2], parts[3], parts[4]));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.warn("Cache de scan illisible, ignoré : " + e.getMessage());
+            entries.clear();
+        }
+        return entries;
+    }
+
+    /**
+     * Entrée valide pour cette racine (empreinte identique), ou null.
+     */
+    Entry lookup(File root, String fingerprint) {
+        Entry entry = entries.get(root.getPath());
+        return entry != null && entry.fingerprint.equals(fingerprint) ? entry : null;
+    }
+
+    /**
+     * Toutes les entrées lues, sans vérification d'empreinte.
+     */
+    Collection<Entry> entries() {
+        return entries.values();
+    }
+
+    /**
+     * Réécrit le cache (fichier temporaire puis déplacement) avec les
+     * contrôleurs trouvés par racine et les routes construites.
+     */
+    void save(Map<File, String> fingerprints, Map<File, Set<String>> classNames, List<UrlMapping> mappings) {
+        Map<String, List<Route>> routesByClass = new LinkedHashMap<>();
+        for (UrlMapping mapping : mappings) {
+            for (HandlerPlan plan : mapping.getPlans()) {
+                String className = plan.getControllerClass().getName();
+                routesByClass.computeIfAbsent(className, k -> new ArrayList<>()).add(new Route(className,
+                        signature(plan.getMethod()), plan.getHttpMethod(), mapping.getPattern().getPattern()));
+            }
+        }
+        File temp = null;
+        try {
+            temp = File.createTempFile(FILE_NAME, ".tmp", file.getParentFile());
+            try (BufferedWriter writer = Files.newBufferedWriter(temp.toPath(), StandardCharsets.UTF_8)) {
+                writer.write(HEADER);
+                writer.newLine();
+                for (Map.Entry<File, String> root : fingerprints.entrySet()) {
+                    writer.write("root\t" + root.getKey().getPath() + "\t" + root.getValue());
+                    writer.newLine();
+                    for (String className : classNames.getOrDefault(root.getKey(), Collections.emptySet())) {
+                        writer.write("class\t" + className);
+                        writer.newLine();
+                        for (Route route : routesByClass.getOrDefault(className, Collections.emptyList())) {
+                            writer.write("route\t" + route.className + "\t" + route.signature + "\t"
+                                    + route.httpMethod + "\t" + route.url);
+                            writer.newLine();
+                        }
+                    }
+                }
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Log.warn("Écriture du cache de scan impossible : " + e.getMessage());
+        } finally {
+            if (temp != null) {
+                temp.delete();
+            }
+        }
+    }
+
+    /**
+     * nom(type1,type2) avec les noms de types tels que Class.getName().
+     */
+    static String signature(Method method) {
+        StringBuilder sb = new StringBuilder(method.getName()).append('(');
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(types[i].getName());
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * Empreinte d'une racine : taille et date du JAR, ou pour un répertoire
+     * la combinaison (indépendante de l'ordre) du chemin, de la taille et de
+     * la date de chaque fichier. Les fichiers ne sont pas lus.
+     */
+    static String fingerprint(File root) {
+        if (ClassPathScanner.isJar(root)) {
+            return "jar:" + root.length() + ":" + root.lastModified();
+        }
+        long[] acc = new long[2];
+        accumulate(root, "", acc);
+        return "dir:" + acc[0] + ":" + Long.toHexString(acc[1]);
+    }
+
+    private static void accumulate(File dir, String prefix, long[] acc) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String path = prefix + file.getName();
+            if (file.isDirectory()) {
+                accumulate(file, path + "/", acc);
+            } else {
+                acc[0]++;
+                long h = path.hashCode();
+                h = h * 31 + file.length();
+                h = h * 31 + file.lastModified();
+                // Mélange pour que la somme reste sensible à chaque fichier
+                h ^= (h >>> 33);
+                h *= 0xff51afd7ed558ccdL;
+                h ^= (h >>> 33);
+                acc[1] += h;
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package itu.sprint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.servlet.ServletContext;
+
+/**
+ * Lecture des paramètres du framework : context-param du web.xml, sinon
+ * propriété système du même nom (-Dsprint.devMode=true), sinon valeur par défaut.
+ */
+public final class SprintConfig {
+
+    /** Mode développement : surveillance des fichiers, rechargements. */
+    public static final String DEV_MODE = "sprint.devMode";
+
+    private SprintConfig() {
+    }
+
+    public static String get(ServletContext context, String name) {
+        String value = context != null ? context.getInitParameter(name) : null;
+        if (value == null) {
+            value = System.getProperty(name);
+        }
+        return value != null ? value.trim() : null;
+    }
+
+    public static boolean getBoolean(ServletContext context, String name, boolean defaultValue) {
+        String value = get(context, name);
+        return value != null && !value.isEmpty() ? Boolean.parseBoolean(value) : defaultValue;
+    }
+
+    public static long getLong(ServletContext context, String name, long defaultValue) {
+        String value = get(context, name);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            Log.warn("Valeur invalide pour " + name + " : " + value);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Liste séparée par des virgules, éléments vides ignorés.
+     */
+    public static List<String> getList(ServletContext context, String name) {
+        List<String> values = new ArrayList<>();
+        String value = get(context, name);
+        if (value != null) {
+            for (String item : value.split(",")) {
+                if (!item.isBlank()) {
+                    values.add(item.trim());
+                }
+            }
+        }
+        return values;
+    }
+
+    public static boolean isDevMode(ServletContext context) {
+        return getBoolean(context, DEV_MODE, false);
+    }
+}
@@ -8,5 +8,14 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface AnnotationController {
+    /**
+     * Cycle de vie des instances : SINGLETON doit être thread-safe,
+     * POOLED convient aux contrôleurs qui ne le sont pas.
+     */
+    Scope scope() default Scope.REQUEST;
 
+    /**
+     * Nombre maximum d'instances pour le scope POOLED
+     */
+    int poolSize() default 8;
 }
@@ -0,0 +1,13 @@
+package itu.sprint.annotation;
+
+/**
+ * Compression gzip de la réponse d'une route.
+ */
+public enum Compression {
+    /** Suit le réglage global sprint.compression.enabled */
+    DEFAULT,
+    /** Toujours proposée si le client accepte gzip */
+    ON,
+    /** Jamais compressée */
+    OFF
+}
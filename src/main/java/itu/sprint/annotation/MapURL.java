@@ -7,4 +7,5 @@ import java.lang.annotation.*;
 public @interface MapURL {
     String url() default "";
     String method() default "GET";
+    Compression compress() default Compression.DEFAULT;
 }
@@ -0,0 +1,13 @@
+package itu.sprint.annotation;
+
+/**
+ * Cycle de vie d'une instance de contrôleur.
+ */
+public enum Scope {
+    /** Une seule instance, créée au démarrage et partagée par toutes les requêtes */
+    SINGLETON,
+    /** Une nouvelle instance par requête (comportement historique) */
+    REQUEST,
+    /** Instances réutilisées depuis un pool borné, une requête à la fois */
+    POOLED
+}
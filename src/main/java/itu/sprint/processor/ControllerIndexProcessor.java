@@ -0,0 +1,151 @@
+package itu.sprint.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import itu.sprint.ControllerIndex;
+import itu.sprint.annotation.AnnotationController;
+import itu.sprint.annotation.MapURL;
+
+/**
+ * Processeur d'annotations qui écrit {@value ControllerIndex#LOCATION} dans
+ * les classes compilées : chaque classe {@code @AnnotationController} et ses
+ * méthodes {@code @MapURL}. Au démarrage, ControllerScanner ne charge alors
+ * que ces classes au lieu de parcourir ce répertoire de classes.
+ * <p>
+ * Activé automatiquement (META-INF/services) pour les projets qui compilent
+ * avec le framework dans leur classpath.
+ */
+@SupportedAnnotationTypes("itu.sprint.annotation.AnnotationController")
+public class ControllerIndexProcessor extends AbstractProcessor {
+
+    // nom binaire -> lignes de l'index pour cette classe ; trié pour un fichier stable
+    private final Map<String, List<String>> controllers = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!controllers.isEmpty()) {
+                writeIndex();
+            }
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(AnnotationController.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                TypeElement type = (TypeElement) element;
+                controllers.put(binaryName(type), describe(type));
+            }
+        }
+        return false;
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    /**
+     * Lignes d'index d'un contrôleur ; même règle d'URL que le scanner
+     * (vide = "/" + nom de méthode, '/' initial ajouté au besoin).
+     */
+    private List<String> describe(TypeElement type) {
+        String className = binaryName(type);
+        List<String> lines = new ArrayList<>();
+        lines.add(className);
+        for (Element member : type.getEnclosedElements()) {
+            MapURL mapUrl = member.getAnnotation(MapURL.class);
+            if (member.getKind() != ElementKind.METHOD || mapUrl == null) {
+                continue;
+            }
+            String methodName = ((ExecutableElement) member).getSimpleName().toString();
+            String url = mapUrl.url();
+            if (url.isEmpty()) {
+                url = "/" + methodName;
+            } else if (!url.startsWith("/")) {
+                url = "/" + url;
+            }
+            lines.add(className + "\t" + mapUrl.method() + "\t" + url + "\t" + methodName);
+        }
+        return lines;
+    }
+
+    /**
+     * Compilation incrémentale : les entrées de l'index précédent dont la
+     * classe n'a pas été recompilée sont conservées si elle existe encore
+     * et porte toujours l'annotation.
+     */
+    private void writeIndex() {
+        Map<String, List<String>> merged = new TreeMap<>(readPreviousIndex());
+        merged.keySet().removeIf(name -> {
+            TypeElement type = processingEnv.getElementUtils().getTypeElement(name.replace('$', '.'));
+            return type == null || type.getAnnotation(AnnotationController.class) == null;
+        });
+        merged.putAll(controllers);
+        try {
+            FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", ControllerIndex.LOCATION);
+            // openWriter() écrirait dans le charset de la plateforme ; l'index est lu en UTF-8
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write(ControllerIndex.HEADER);
+                writer.write('\n');
+                for (List<String> lines : merged.values()) {
+                    for (String line : lines) {
+                        writer.write(line);
+                        writer.write('\n');
+                    }
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Écriture impossible de " + ControllerIndex.LOCATION + " : " + e.getMessage());
+        }
+    }
+
+    private Map<String, List<String>> readPreviousIndex() {
+        Map<String, List<String>> previous = new TreeMap<>();
+        try {
+            FileObject existing = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", ControllerIndex.LOCATION);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue;
+                    }
+                    int tab = line.indexOf('\t');
+                    String className = tab < 0 ? line : line.substring(0, tab);
+                    previous.computeIfAbsent(className, k -> new ArrayList<>()).add(line);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // Pas d'index précédent : compilation complète
+        }
+        return previous;
+    }
+}
@@ -1,21 +1,22 @@
 package itu.sprint.servlet;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.util.List;
 import java.util.Map;
 
-import itu.sprint.ControllerScanner;
-import itu.sprint.annotation.PathVariable;
-import itu.sprint.annotation.RequestParam;
-import itu.sprint.annotation.RestAPI;
-import itu.sprint.annotation.UploadFile;
-import itu.sprint.util.FileUpload;
+import itu.sprint.Log;
+import itu.sprint.RouteBootstrap;
+import itu.sprint.mvc.ModelView;
+import itu.sprint.util.BadRequestException;
+import itu.sprint.util.ControllerFactory;
+import itu.sprint.util.HandlerPlan;
 import itu.sprint.util.JSONConverter;
+import itu.sprint.util.ResponseMode;
+import itu.sprint.util.RouteMatch;
+import itu.sprint.util.RouteTable;
+import itu.sprint.util.RouteTableHolder;
 import itu.sprint.util.UrlMapping;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
@@ -24,7 +25,6 @@ import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.Part;
 
 /**
  * Servlet frontal qui gère toutes les requêtes et délègue aux contrôleurs appropriés.
@@ -39,23 +39,67 @@ public class FrontServlet extends HttpServlet {
 
     private static final String DEFAULT_SERVLET_NAME = "default";
 
+    private StaticResourceHandler staticResources;
+    private ResponseCompressor compressor;
+    // Référence gardée : chaque requête lit la table courante sans passer par les attributs
+    private RouteTableHolder routes;
+    // null si les mesures sont désactivées
+    private RequestMetrics metrics;
+
+    @Override
+    public void init() throws ServletException {
+        compressor = new ResponseCompressor(getServletContext());
+        getServletContext().setAttribute(ResponseCompressor.ATTR, compressor);
+        routes = RouteTableHolder.of(getServletContext());
+        RequestMetrics requestMetrics = RequestMetrics.of(getServletContext());
+        metrics = requestMetrics.isEnabled() ? requestMetrics : null;
+        staticResources = new StaticResourceHandler(getServletContext());
+    }
+
+    @Override
+    public void destroy() {
+        if (staticResources != null) {
+            staticResources.close();
+        }
+    }
+
     @Override
     public void service(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         String resourcePath = extractResourcePath(req); // ex: /hello
-        List<UrlMapping> mappings = (List<UrlMapping>) getServletContext().getAttribute(ControllerScanner.CONTROLLERS_MAP_ATTR);
 
-        // 1. Ressource statique ? On délègue tout de suite.
-        if (isStaticResource(resourcePath)) {
+        // Table courante : ses préfixes servent au tri statique, elle peut changer (rechargement)
+        RouteTable table = routes.get();
+
+        // 1. Ressource statique ? Tri en mémoire ; fichier servi directement, sinon délégué au conteneur.
+        StaticResourceHandler.Resource resource = staticResources.classify(resourcePath,
+                table != null ? table.getStaticPrefixes() : null);
+        if (resource.getKind() == StaticResourceHandler.Kind.FILE) {
+            staticResources.serve(resource, req, resp);
+            return;
+        }
+        if (resource.getKind() == StaticResourceHandler.Kind.CONTAINER) {
             forwardToDefaultServlet(req, resp);
             return;
         }
 
+        // Démarrage paresseux : les routes ne sont peut-être pas encore publiées
+        if (table == null) {
+            if (!awaitRoutes(resp)) {
+                return;
+            }
+            table = routes.get();
+        }
+
         // 2. Contrôleur dynamique ?
-        UrlMapping matchedMapping = findMatchingMapping(mappings, resourcePath);
-        if (matchedMapping != null) {
-            handleDynamic(resourcePath, matchedMapping, req, resp);
+        long start = metrics != null ? System.nanoTime() : 0;
+        RouteMatch match = table != null ? table.match(resourcePath) : null;
+        if (match != null) {
+            handleDynamic(resourcePath, table, match, req, resp, start);
             return;
         }
+        if (metrics != null) {
+            metrics.recordUnmatched();
+        }
 
         // 3. Rien trouvé => 404 personnalisé
         resp.setContentType("text/html; charset=UTF-8");
@@ -74,53 +118,70 @@ public class FrontServlet extends HttpServlet {
         out.close();
     }
 
-    private void handleDynamic(String url, UrlMapping mapping, HttpServletRequest req, HttpServletResponse resp)
-            throws IOException {
+    /**
+     * @param start instant (System.nanoTime) d'avant le routage, 0 sans mesures
+     */
+    private void handleDynamic(String url, RouteTable table, RouteMatch match, HttpServletRequest req,
+                               HttpServletResponse resp, long start) throws IOException {
+        long routed = metrics != null ? System.nanoTime() : 0;
         // On suppose qu'il n'y a qu'un seul contrôleur/méthode par URL 
-        System.out.println("[Sprint][DEBUG] handleDynamic appelé pour URL : " + url);
-        System.out.println("[Sprint][DEBUG] Méthode HTTP de la requête : " + req.getMethod());
-        System.out.println("[Sprint][DEBUG] Content-Type : " + req.getContentType());
-        Map<String, String> pathParams = mapping.getPattern().extractParams(url);
+        if (Log.isDebugEnabled()) {
+            Log.debug("handleDynamic " + req.getMethod() + " " + url + " (Content-Type : " + req.getContentType() + ")");
+        }
+        UrlMapping mapping = match.getMapping();
+        ControllerFactory container = table.getControllers();
         boolean errorOccured = true;
-        for (Map.Entry<Class<?>, Method> entry : mapping.getClassMethodMap().entrySet()) {
-            Class<?> cls = entry.getKey();
-            Method method = entry.getValue();
-            // Vérifier la méthode HTTP attendue via l'annotation MapURL
-            String expectedMethod = "GET";
-            if (method.isAnnotationPresent(itu.sprint.annotation.MapURL.class)) {
-                itu.sprint.annotation.MapURL mapUrl = method.getAnnotation(itu.sprint.annotation.MapURL.class);
-                expectedMethod = mapUrl.method();
-            }
-            System.out.println("[Sprint][DEBUG] Méthode attendue : " + expectedMethod + ", reçue : " + req.getMethod());
+        for (HandlerPlan plan : mapping.getPlans()) {
+            Class<?> cls = plan.getControllerClass();
+            Method method = plan.getMethod();
             // Comparer avec la méthode HTTP de la requête
-            if (!req.getMethod().equalsIgnoreCase(expectedMethod)) {
-                System.out.println("[Sprint][DEBUG] Méthode HTTP ne correspond pas, passage au suivant");
+            if (!plan.accepts(req.getMethod())) {
                 continue; // Ne pas invoquer si la méthode ne correspond pas
             }
+            // Compression gzip éventuelle : le contrôleur reçoit aussi la réponse enveloppée
+            HttpServletResponse response = resp;
+            GzipResponse gzip = compressor.appliesTo(plan) ? compressor.wrap(req, resp) : null;
+            if (gzip != null) {
+                response = gzip;
+            }
+            Object controllerInstance = null;
+            RequestMetrics.Route stats = metrics != null ? metrics.route(plan, mapping) : null;
+            long bound = 0;
+            long invoked = 0;
+            boolean failed = false;
             try {
-                System.out.println("[Sprint][DEBUG] Appel du contrôleur : " + cls.getName() + "#" + method.getName());
-                System.out.println("[Sprint][DEBUG] Nombre de paramètres de la méthode : " + method.getParameterCount());
-                Object controllerInstance = cls.getDeclaredConstructor().newInstance();
-                Object[] args = buildArgs(method, req, resp, pathParams);
-                System.out.println("[Sprint][DEBUG] Arguments construits : " + args.length);
-                for (int i = 0; i < args.length; i++) {
-                    System.out.println("[Sprint][DEBUG]   arg[" + i + "] = " + (args[i] != null ? args[i].getClass().getName() : "null"));
+                controllerInstance = container != null ? container.acquire(cls) : cls.getDeclaredConstructor().newInstance();
+                Object[] args = plan.bindArgs(req, response, match);
+                if (stats != null) {
+                    bound = System.nanoTime();
                 }
-                method.setAccessible(true);
-                Object returnValue = method.invoke(controllerInstance, args);
-                System.out.println("[Sprint][DEBUG] Retour du contrôleur : " + (returnValue != null ? returnValue.getClass().getName() : "null"));
+                if (Log.isDebugEnabled()) {
+                    Log.debug("Appel de " + cls.getName() + "#" + method.getName() + " avec " + describeArgs(args));
+                }
+                Object returnValue = plan.invoke(controllerInstance, args);
                 errorOccured = false;
+                if (stats != null) {
+                    invoked = System.nanoTime();
+                }
                 
                 // Si la méthode a l'annotation @RestAPI, retourner du JSON
-                if (method.isAnnotationPresent(RestAPI.class)) {
-                    resp.setContentType("application/json; charset=UTF-8");
-                    PrintWriter out = resp.getWriter();
+                if (plan.getResponseMode() == ResponseMode.JSON) {
+                    response.setContentType("application/json; charset=UTF-8");
+                    OutputStream out = response.getOutputStream();
                     try {
-                        String json = JSONConverter.toJSON(returnValue);
-                        out.print(json);
-                        System.out.println("[Sprint][DEBUG] Réponse JSON : " + json);
+                        // Écriture en flux, encodée directement en UTF-8
+                        JSONConverter.writeJSON(returnValue, out);
                     } catch (Exception e) {
-                        showErrorPage(resp, "Erreur lors de la conversion JSON", e);
+                        failed = true;
+                        if (response.isCommitted()) {
+                            // Une partie du JSON est déjà partie : on ne peut plus rien afficher
+                            Log.error("Conversion JSON interrompue : " + e.getMessage());
+                            out.close();
+                            return;
+                        }
+                        // reset() libère aussi getOutputStream() pour la page d'erreur
+                        response.reset();
+                        showErrorPage(response, "Erreur lors de la conversion JSON", e);
                         return;
                     }
                     out.close();
@@ -128,33 +189,31 @@ public class FrontServlet extends HttpServlet {
                 }
                 
                 // Si retour ModelView, on gère l'affichage JSP
-                if (returnValue != null && returnValue.getClass().getSimpleName().equals("ModelView")) {
-                    // On récupère les attributs et la vue
+                if (returnValue instanceof ModelView) {
+                    ModelView modelView = (ModelView) returnValue;
                     try {
-                        java.lang.reflect.Method getAttributes = returnValue.getClass().getMethod("getAttributes");
-                        java.util.Map<String, Object> attributes = (java.util.Map<String, Object>) getAttributes.invoke(returnValue);
+                        Map<String, Object> attributes = modelView.getAttributes();
                         if (attributes != null) {
-                            System.out.println("[Sprint][DEBUG] Attributs ModelView avant forward :");
                             for (Map.Entry<String, Object> att : attributes.entrySet()) {
-                                System.out.println("[Sprint][DEBUG]   " + att.getKey() + " = " + att.getValue());
                                 req.setAttribute(att.getKey(), att.getValue());
                             }
+                            Log.debug(() -> "Attributs ModelView avant forward : " + attributes.keySet());
                         }
-                        java.lang.reflect.Method getView = returnValue.getClass().getMethod("getView");
-                        String view = (String) getView.invoke(returnValue);
+                        String view = modelView.getView();
                         if (view != null) {
                             RequestDispatcher dispatcher = req.getRequestDispatcher(view);
-                            dispatcher.forward(req, resp);
+                            dispatcher.forward(req, response);
                             return;
                         }
                     } catch (Exception e) {
-                        showErrorPage(resp, "Erreur ModelView", e);
+                        failed = true;
+                        showErrorPage(response, "Erreur ModelView", e);
                         return;
                     }
                 } else {
                     // Sinon, on affiche le retour en texte brut
-                    resp.setContentType("text/plain; charset=UTF-8");
-                    PrintWriter out = resp.getWriter();
+                    response.setContentType("text/plain; charset=UTF-8");
+                    PrintWriter out = response.getWriter();
                     out.println("[Sprint] Dispatch URL: " + url);
                     out.println("-> " + cls.getName() + "#" + method.getName() + "()");
                     if (returnValue != null) {
@@ -162,22 +221,36 @@ public class FrontServlet extends HttpServlet {
                     }
                     out.close();
                 }
+            } catch (BadRequestException e) {
+                // Corps illisible : erreur du client, le contrôleur n'est pas appelé
+                failed = true;
+                Log.warn(cls.getName() + "#" + method.getName() + " : " + e.getMessage());
+                response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+                return;
             } catch (ReflectiveOperationException | IllegalArgumentException e) {
-                System.err.println("[Sprint][ERROR] Exception lors de l'invocation: " + e.getClass().getName());
-                System.err.println("[Sprint][ERROR] Message: " + e.getMessage());
-                e.printStackTrace();
-                if (e.getCause() != null) {
-                    System.err.println("[Sprint][ERROR] Cause: " + e.getCause().getMessage());
-                    e.getCause().printStackTrace();
-                }
-                showErrorPage(resp, "Erreur invocation du contrôleur", e);
+                failed = true;
+                Log.error("Exception lors de l'invocation de " + cls.getName() + "#" + method.getName(), e);
+                showErrorPage(response, "Erreur invocation du contrôleur", e);
                 return;
             } catch (Exception e) {
-                System.err.println("[Sprint][ERROR] Exception inattendue: " + e.getClass().getName());
-                System.err.println("[Sprint][ERROR] Message: " + e.getMessage());
-                e.printStackTrace();
-                showErrorPage(resp, "Erreur inattendue", e);
+                failed = true;
+                Log.error("Exception inattendue dans " + cls.getName() + "#" + method.getName(), e);
+                showErrorPage(response, "Erreur inattendue", e);
                 return;
+            } finally {
+                if (container != null) {
+                    container.release(cls, controllerInstance);
+                }
+                if (gzip != null) {
+                    if (req.isAsyncStarted()) {
+                        gzip.detach();
+                    } else {
+                        gzip.finish();
+                    }
+                }
+                if (stats != null) {
+                    stats.record(start, routed, bound, invoked, System.nanoTime(), failed);
+                }
             }
         }
         // Si aucune méthode n'a été invoquée (mauvaise méthode HTTP ou autre)
@@ -186,6 +259,17 @@ public class FrontServlet extends HttpServlet {
         }
     }
 
+    private static String describeArgs(Object[] args) {
+        StringBuilder sb = new StringBuilder().append('[');
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(args[i] != null ? args[i].getClass().getName() : "null");
+        }
+        return sb.append(']').toString();
+    }
+
     /**
      * Affiche une page d'erreur HTML/CSS personnalisée 
      */
@@ -210,226 +294,18 @@ public class FrontServlet extends HttpServlet {
     }
 
     /**
-     * Construit le tableau d'arguments pour la méthode : injection basique
-     * HttpServletRequest / HttpServletResponse / PathVariable si présents, sinon vide.
+     * Attend la fin du démarrage paresseux ; répond 503 si les routes ne
+     * sont pas prêtes à temps. Vrai s'il n'y a rien à attendre.
      */
-    private Object[] buildArgs(Method method, HttpServletRequest req, HttpServletResponse resp, Map<String, String> pathParams) {
-        Parameter[] parameters = method.getParameters();
-        if (parameters.length == 0) return new Object[0];
-        Object[] args = new Object[parameters.length];
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter param = parameters[i];
-            Class<?> pt = param.getType();
-            if (HttpServletRequest.class.isAssignableFrom(pt)) {
-                args[i] = req;
-            } else if (HttpServletResponse.class.isAssignableFrom(pt)) {
-                args[i] = resp;
-            } else if (param.isAnnotationPresent(PathVariable.class)) {
-                PathVariable pv = param.getAnnotation(PathVariable.class);
-                String paramName = pv.value().isEmpty() ? param.getName() : pv.value();
-                String value = pathParams.get(paramName);
-                if (value != null) {
-                    args[i] = convertValue(value, pt);
-                } else {
-                    args[i] = null;
-                }
-            } else if (param.isAnnotationPresent(RequestParam.class)) {
-                RequestParam rp = param.getAnnotation(RequestParam.class);
-                String paramName = rp.value();
-                String value = req.getParameter(paramName);
-                if (value != null) {
-                    args[i] = convertValue(value, pt);
-                } else {
-                    args[i] = null;
-                }
-            } else if (param.isAnnotationPresent(UploadFile.class)) {
-                // Gestion de l'upload de fichiers
-                UploadFile uf = param.getAnnotation(UploadFile.class);
-                String fileName = uf.value();
-                try {
-                    Part filePart = req.getPart(fileName);
-                    if (filePart != null) {
-                        if (pt == Part.class) {
-                            args[i] = filePart;
-                        } else if (pt == FileUpload.class) {
-                            args[i] = new FileUpload(filePart);
-                        } else {
-                            args[i] = null;
-                        }
-                    } else {
-                        args[i] = null;
-                    }
-                } catch (Exception e) {
-                    args[i] = null;
-                }
-            } else if (Map.class.isAssignableFrom(pt)) {
-                // Si le type est Map<String, Object>, on crée une map avec tous les paramètres
-                Map<String, Object> paramMap = new java.util.HashMap<>();
-                java.util.Map<String, String[]> requestParams = req.getParameterMap();
-                for (Map.Entry<String, String[]> entry : requestParams.entrySet()) {
-                    String key = entry.getKey();
-                    String[] values = entry.getValue();
-                    if (values.length == 1) {
-                        paramMap.put(key, values[0]);
-                    } else {
-                        paramMap.put(key, values);
-                    }
-                }
-                args[i] = paramMap;
-            } else if (pt.isArray()) {
-                // Gestion des tableaux d'objets : Person[]
-                Class<?> componentType = pt.getComponentType();
-                args[i] = buildArrayFromParams(req, componentType, param.getName());
-            } else if (java.util.List.class.isAssignableFrom(pt)) {
-                // Gestion des listes d'objets : List<Person>
-                try {
-                    java.lang.reflect.ParameterizedType parameterizedType = (java.lang.reflect.ParameterizedType) param.getParameterizedType();
-                    Class<?> listType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
-                    Object[] array = buildArrayFromParams(req, listType, param.getName());
-                    java.util.List<Object> list = new java.util.ArrayList<>();
-                    if (array != null) {
-                        for (Object obj : array) {
-                            list.add(obj);
-                        }
-                    }
-                    args[i] = list;
-                } catch (Exception e) {
-                    args[i] = null;
-                }
-            } else {
-                // Mapping automatique d'objet (entité) depuis les paramètres de la requête
-                try {
-                    Object instance = pt.getDeclaredConstructor().newInstance();
-                    java.lang.reflect.Field[] fields = pt.getDeclaredFields();
-                    for (java.lang.reflect.Field field : fields) {
-                        String fieldName = field.getName();
-                        String paramValue = req.getParameter(fieldName);
-                        if (paramValue != null && !paramValue.isEmpty()) {
-                            field.setAccessible(true);
-                            Object convertedValue = convertValue(paramValue, field.getType());
-                            field.set(instance, convertedValue);
-                        }
-                    }
-                    args[i] = instance;
-                } catch (Exception e) {
-                    // Si le mapping échoue, laisser null
-                    args[i] = null;
-                }
-            }
-        }
-        return args;
-    }
-
-    /**
-     * Construit un tableau d'objets depuis les paramètres de la requête.
-     * Format attendu : paramName[0].field, paramName[1].field, etc.
-     */
-    private Object[] buildArrayFromParams(HttpServletRequest req, Class<?> elementType, String paramName) {
-        try {
-            java.util.Map<Integer, Object> indexedObjects = new java.util.HashMap<>();
-            java.util.Map<String, String[]> allParams = req.getParameterMap();
-            
-            System.out.println("[Sprint][DEBUG] buildArrayFromParams - paramName: " + paramName);
-            System.out.println("[Sprint][DEBUG] buildArrayFromParams - elementType: " + elementType.getName());
-            
-            // Parcourir tous les paramètres pour trouver ceux qui correspondent au pattern [index].fieldName
-            for (Map.Entry<String, String[]> entry : allParams.entrySet()) {
-                String key = entry.getKey();
-                System.out.println("[Sprint][DEBUG] Param key: " + key);
-                
-                // Format flexible : chercher n'importe quel pattern [index].fieldName ou paramName[index].fieldName
-                int bracketStart = key.indexOf('[');
-                int bracketEnd = key.indexOf(']');
-                
-                if (bracketStart >= 0 && bracketEnd > bracketStart) {
-                    try {
-                        int index = Integer.parseInt(key.substring(bracketStart + 1, bracketEnd));
-                        int dotPos = key.indexOf('.', bracketEnd);
-                        
-                        if (dotPos > 0 && dotPos < key.length() - 1) {
-                            String fieldName = key.substring(dotPos + 1);
-                            
-                            System.out.println("[Sprint][DEBUG] Found index=" + index + ", field=" + fieldName);
-                            
-                            // Créer l'objet s'il n'existe pas encore
-                            if (!indexedObjects.containsKey(index)) {
-                                Object newObj = elementType.getDeclaredConstructor().newInstance();
-                                indexedObjects.put(index, newObj);
-                                System.out.println("[Sprint][DEBUG] Created new object at index " + index);
-                            }
-                            
-                            // Affecter la valeur au champ
-                            Object obj = indexedObjects.get(index);
-                            java.lang.reflect.Field field = elementType.getDeclaredField(fieldName);
-                            field.setAccessible(true);
-                            String value = entry.getValue()[0];
-                            Object convertedValue = convertValue(value, field.getType());
-                            field.set(obj, convertedValue);
-                            System.out.println("[Sprint][DEBUG] Set " + fieldName + " = " + value);
-                        }
-                    } catch (Exception e) {
-                        System.out.println("[Sprint][DEBUG] Error parsing key: " + key + " - " + e.getMessage());
-                    }
-                }
-            }
-            
-            // Convertir la map en tableau
-            if (indexedObjects.isEmpty()) {
-                System.out.println("[Sprint][DEBUG] No objects found, returning null");
-                return null;
-            }
-            
-            int maxIndex = indexedObjects.keySet().stream().max(Integer::compare).orElse(0);
-            Object[] result = (Object[]) java.lang.reflect.Array.newInstance(elementType, maxIndex + 1);
-            for (Map.Entry<Integer, Object> entry : indexedObjects.entrySet()) {
-                result[entry.getKey()] = entry.getValue();
-            }
-            System.out.println("[Sprint][DEBUG] Returning array with " + result.length + " elements");
-            return result;
-        } catch (Exception e) {
-            System.out.println("[Sprint][DEBUG] buildArrayFromParams exception: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
-    }
-
-    private Object convertValue(String value, Class<?> type) {
-        if (type == String.class) {
-            return value;
-        } else if (type == int.class || type == Integer.class) {
-            try {
-                return Integer.parseInt(value);
-            } catch (NumberFormatException e) {
-                return 0;
-            }
-        } else if (type == long.class || type == Long.class) {
-            try {
-                return Long.parseLong(value);
-            } catch (NumberFormatException e) {
-                return 0L;
-            }
-        } else if (type == double.class || type == Double.class) {
-            try {
-                return Double.parseDouble(value);
-            } catch (NumberFormatException e) {
-                return 0.0;
-            }
-        } else if (type == boolean.class || type == Boolean.class) {
-            return Boolean.parseBoolean(value);
-        } else {
-            // Pour d'autres types, retourner la chaîne
-            return value;
-        }
-    }
-
-    private UrlMapping findMatchingMapping(List<UrlMapping> mappings, String url) {
-        if (mappings == null) return null;
-        for (UrlMapping mapping : mappings) {
-            if (mapping.getPattern().matches(url)) {
-                return mapping;
-            }
+    private boolean awaitRoutes(HttpServletResponse resp) throws IOException {
+        Object bootstrap = getServletContext().getAttribute(RouteBootstrap.ATTR);
+        if (!(bootstrap instanceof RouteBootstrap) || ((RouteBootstrap) bootstrap).awaitRoutes()) {
+            return true;
         }
-        return null;
+        resp.setHeader("Retry-After", "5");
+        resp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                ((RouteBootstrap) bootstrap).isFailed() ? "Routes indisponibles" : "Démarrage en cours");
+        return false;
     }
 
     /**
@@ -442,18 +318,6 @@ public class FrontServlet extends HttpServlet {
         return requestURI.substring(contextPath.length());
     }
 
-    /**
-     * Vérifie si la ressource est un fichier statique 
-     */
-    private boolean isStaticResource(String resourcePath) {
-        try {
-            URL resource = getServletContext().getResource(resourcePath);
-            return resource != null;
-        } catch (MalformedURLException e) {
-            return false;
-        }
-    }
-
     private void forwardToDefaultServlet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         RequestDispatcher defaultServlet = getServletContext().getNamedDispatcher(DEFAULT_SERVLET_NAME);
 
@@ -0,0 +1,333 @@
+package itu.sprint.servlet;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Réponse dont le corps est compressé en gzip au fil de l'écriture. Les
+ * premiers octets sont retenus jusqu'au seuil minimal : un petit corps, ou
+ * un type non compressible, part tel quel avec son Content-Length.
+ * {@link #finish()} doit être appelé une fois le traitement terminé ;
+ * {@link #detach()} le remplace si la requête est passée en asynchrone.
+ * En E/S non bloquantes (setWriteListener), le corps part sans compression.
+ */
+final class GzipResponse extends HttpServletResponseWrapper {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private static final int UNDECIDED = 0;
+    private static final int COMPRESSING = 1;
+    private static final int IDENTITY = 2;
+    private static final int FINISHED = 3;
+
+    private final ResponseCompressor compressor;
+    // Créé au passage en gzip, libéré (end) par finish() ou reset()
+    private Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] pending;
+    private int pendingCount;
+    private byte[] chunk;
+    private int state = UNDECIDED;
+    // Corps écrit après le retour du contrôleur (asynchrone) : l'application ferme le flux
+    private boolean detached;
+    private long bytesIn;
+    private long bytesOut;
+
+    private ServletOutputStream raw;
+    private ServletOutputStream stream;
+    private PrintWriter writer;
+
+    GzipResponse(HttpServletResponse response, ResponseCompressor compressor) {
+        super(response);
+        this.compressor = compressor;
+        this.pending = new byte[compressor.getMinSize()];
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() déjà appelé");
+        }
+        return stream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (stream != null) {
+                throw new IllegalStateException("getOutputStream() déjà appelé");
+            }
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.ISO_8859_1;
+            writer = new PrintWriter(new OutputStreamWriter(stream(), charset));
+        }
+        return writer;
+    }
+
+    private ServletOutputStream stream() {
+        if (stream == null) {
+            stream = new CompressingStream();
+        }
+        return stream;
+    }
+
+    // La longueur finale n'est connue qu'à la fin (compressée ou non)
+    @Override
+    public void setContentLength(int length) {
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        super.addHeader("Vary", "Accept-Encoding");
+        endDeflater();
+        crc.reset();
+        pendingCount = 0;
+        state = UNDECIDED;
+        bytesIn = 0;
+        bytesOut = 0;
+        raw = null;
+        stream = null;
+        writer = null;
+        detached = false;
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (state == UNDECIDED) {
+            pendingCount = 0;
+        }
+        super.resetBuffer();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (state == UNDECIDED) {
+            decide(false);
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * Termine le corps : vide le tampon retenu ou clôt le flux gzip.
+     */
+    void finish() throws IOException {
+        if (state == FINISHED) {
+            return;
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+        if (state == UNDECIDED) {
+            super.setContentLengthLong(pendingCount);
+            state = IDENTITY;
+            if (pendingCount > 0) {
+                raw().write(pending, 0, pendingCount);
+            }
+        } else if (state == COMPRESSING) {
+            try {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    drain(Deflater.NO_FLUSH);
+                }
+                byte[] trailer = new byte[8];
+                writeIntLE(trailer, 0, (int) crc.getValue());
+                writeIntLE(trailer, 4, (int) bytesIn);
+                raw.write(trailer);
+                bytesOut += trailer.length;
+                compressor.record(bytesIn, bytesOut);
+            } finally {
+                state = FINISHED;
+                endDeflater();
+            }
+        }
+        state = FINISHED;
+        if (raw != null) {
+            raw.close();
+        }
+    }
+
+    /**
+     * Fin du traitement synchrone d'une requête passée en asynchrone : le
+     * corps continue d'être écrit après le retour du contrôleur, le flux
+     * n'est donc pas fermé ici. Tant que rien n'est compressé, la réponse
+     * repasse en identité (sans Content-Length) ; un flux gzip déjà commencé
+     * est vidé et continue, mais n'est terminé que par {@link #finish()}.
+     */
+    void detach() throws IOException {
+        if (state == FINISHED || detached) {
+            return;
+        }
+        detached = true;
+        if (writer != null) {
+            writer.flush();
+        }
+        if (state == UNDECIDED) {
+            state = IDENTITY;
+            if (pendingCount > 0) {
+                raw().write(pending, 0, pendingCount);
+                pendingCount = 0;
+            }
+        } else if (state == COMPRESSING) {
+            stream.flush();
+        }
+    }
+
+    private void endDeflater() {
+        if (deflater != null) {
+            deflater.end();
+            deflater = null;
+        }
+    }
+
+    private ServletOutputStream raw() throws IOException {
+        if (raw == null) {
+            raw = super.getOutputStream();
+        }
+        return raw;
+    }
+
+    /**
+     * Choisit gzip ou identité, puis envoie les octets retenus.
+     */
+    private void decide(boolean overThreshold) throws IOException {
+        if (overThreshold && compressor.isCompressible(getContentType()) && !containsHeader("Content-Encoding")) {
+            super.setHeader("Content-Encoding", "gzip");
+            chunk = new byte[8192];
+            deflater = compressor.newDeflater();
+            raw().write(GZIP_HEADER);
+            bytesOut = GZIP_HEADER.length;
+            state = COMPRESSING;
+            deflate(pending, 0, pendingCount);
+        } else {
+            state = IDENTITY;
+            raw().write(pending, 0, pendingCount);
+        }
+        pendingCount = 0;
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        switch (state) {
+            case COMPRESSING:
+                deflate(b, off, len);
+                break;
+            case IDENTITY:
+                raw.write(b, off, len);
+                break;
+            case UNDECIDED:
+                if (pendingCount + len <= pending.length) {
+                    System.arraycopy(b, off, pending, pendingCount, len);
+                    pendingCount += len;
+                } else {
+                    decide(true);
+                    write(b, off, len);
+                }
+                break;
+            default:
+                throw new IOException("Réponse déjà terminée");
+        }
+    }
+
+    private void deflate(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        crc.update(b, off, len);
+        bytesIn += len;
+        deflater.setInput(b, off, len);
+        while (!deflater.needsInput()) {
+            drain(Deflater.NO_FLUSH);
+        }
+    }
+
+    private int drain(int flush) throws IOException {
+        int count = deflater.deflate(chunk, 0, chunk.length, flush);
+        if (count > 0) {
+            raw.write(chunk, 0, count);
+            bytesOut += count;
+        }
+        return count;
+    }
+
+    private static void writeIntLE(byte[] target, int offset, int value) {
+        target[offset] = (byte) value;
+        target[offset + 1] = (byte) (value >> 8);
+        target[offset + 2] = (byte) (value >> 16);
+        target[offset + 3] = (byte) (value >> 24);
+    }
+
+    private final class CompressingStream extends ServletOutputStream {
+        private final byte[] single = new byte[1];
+
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            GzipResponse.this.write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            GzipResponse.this.write(b, off, len);
+        }
+
+        /**
+         * Tant que le seuil n'est pas atteint, flush ne fait rien : la
+         * décision de compresser doit précéder l'envoi des en-têtes.
+         */
+        @Override
+        public void flush() throws IOException {
+            if (state == COMPRESSING) {
+                while (drain(Deflater.SYNC_FLUSH) == chunk.length) {
+                    // tampon plein : il reste des octets à sortir
+                }
+                raw.flush();
+            } else if (state == IDENTITY) {
+                raw.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public boolean isReady() {
+            return state != IDENTITY || raw == null || raw.isReady();
+        }
+
+        /**
+         * Passe le flux du conteneur en non bloquant : la compression, qui
+         * écrit de façon bloquante, est abandonnée si elle n'a pas commencé.
+         */
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            if (state == COMPRESSING || state == FINISHED) {
+                throw new IllegalStateException("Corps déjà compressé : E/S non bloquantes impossibles");
+            }
+            try {
+                detach();
+                raw().setWriteListener(listener);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package itu.sprint.servlet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import itu.sprint.Log;
+import jakarta.servlet.ServletContext;
+
+/**
+ * Variantes compressées des fichiers statiques : fichiers frères .br / .gz
+ * livrés avec la webapp, ou .gz générés une fois (compression maximale) dans
+ * un répertoire de cache sous le répertoire temporaire du contexte.
+ * Une variante plus ancienne que l'original est ignorée.
+ */
+class PrecompressedAssets {
+
+    static final String BROTLI = "br";
+    static final String GZIP = "gzip";
+
+    // En dessous, l'en-tête gzip et l'aller-retour ne valent pas le gain
+    private static final long MIN_SIZE = 1024;
+
+    private final ServletContext context;
+    // null si la génération au démarrage est désactivée
+    private final File cacheDir;
+
+    PrecompressedAssets(ServletContext context, boolean generate) {
+        this.context = context;
+        File tempDir = (File) context.getAttribute(ServletContext.TEMPDIR);
+        this.cacheDir = generate && tempDir != null ? new File(tempDir, "sprint-static") : null;
+    }
+
+    boolean isGenerating() {
+        return cacheDir != null;
+    }
+
+    /**
+     * Variante Brotli livrée à côté du fichier (le JDK ne sait pas en produire).
+     */
+    File brotli(File source) {
+        return fresh(new File(source.getPath() + ".br"), source);
+    }
+
+    File gzip(String path, File source) {
+        File sibling = fresh(new File(source.getPath() + ".gz"), source);
+        if (sibling != null || cacheDir == null) {
+            return sibling;
+        }
+        return fresh(new File(cacheDir, path + ".gz"), source);
+    }
+
+    private static File fresh(File variant, File source) {
+        return variant.isFile() && variant.lastModified() >= source.lastModified() ? variant : null;
+    }
+
+    /**
+     * Génère les .gz manquants ou périmés pour les chemins indexés ; retourne
+     * le nombre de fichiers écrits.
+     */
+    int generate(Set<String> paths) {
+        if (cacheDir == null) {
+            return 0;
+        }
+        int written = 0;
+        for (String path : paths) {
+            if (path.endsWith("/") || path.endsWith(".gz") || path.endsWith(".br")) {
+                continue;
+            }
+            String realPath = context.getRealPath(path);
+            if (realPath == null) {
+                continue;
+            }
+            File source = new File(realPath);
+            if (!source.isFile() || source.length() < MIN_SIZE || !isCompressible(context.getMimeType(source.getName()))) {
+                continue;
+            }
+            if (gzip(path, source) != null) {
+                continue;
+            }
+            try {
+                if (compress(source, new File(cacheDir, path + ".gz"))) {
+                    written++;
+                }
+            } catch (IOException e) {
+                Log.warn("Compression impossible de " + path + " : " + e.getMessage());
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Écrit via un fichier temporaire puis déplacement atomique ; la variante
+     * n'est gardée que si elle est plus petite que l'original.
+     */
+    private static boolean compress(File source, File target) throws IOException {
+        File dir = target.getParentFile();
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("répertoire non créé : " + dir);
+        }
+        File temp = File.createTempFile(target.getName(), ".tmp", dir);
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp.toPath()), 8192) {
+                {
+                    def.setLevel(Deflater.BEST_COMPRESSION);
+                }
+            }) {
+                Files.copy(source.toPath(), out);
+            }
+            if (temp.length() >= source.length()) {
+                return false;
+            }
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    static boolean isCompressible(String mimeType) {
+        if (mimeType == null) {
+            return false;
+        }
+        return mimeType.startsWith("text/") || mimeType.contains("javascript") || mimeType.contains("json")
+                || mimeType.contains("xml") || mimeType.equals("image/svg+xml");
+    }
+
+    /**
+     * Vrai si Accept-Encoding autorise le codage (q=0 l'exclut). Une entrée
+     * nommant le codage l'emporte sur "*" quel que soit l'ordre :
+     * "*;q=0, gzip" accepte gzip, "gzip;q=0, *" le refuse.
+     */
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String part : acceptEncoding.split(",")) {
+            int semi = part.indexOf(';');
+            String name = (semi < 0 ? part : part.substring(0, semi)).trim();
+            if (name.equalsIgnoreCase(coding)) {
+                return semi < 0 || quality(part.substring(semi + 1)) > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = semi < 0 || quality(part.substring(semi + 1)) > 0;
+            }
+        }
+        return wildcard;
+    }
+
+    /**
+     * Valeur de q parmi les paramètres d'une entrée (1 si absent, 0 si illisible).
+     */
+    private static double quality(String params) {
+        for (String param : params.split(";")) {
+            String value = param.trim();
+            if (value.length() > 1 && (value.charAt(0) == 'q' || value.charAt(0) == 'Q') && value.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(value.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
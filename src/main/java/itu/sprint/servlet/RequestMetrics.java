@@ -0,0 +1,184 @@
+package itu.sprint.servlet;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import itu.sprint.SprintConfig;
+import itu.sprint.util.HandlerPlan;
+import itu.sprint.util.LatencyHistogram;
+import itu.sprint.util.UrlMapping;
+import jakarta.servlet.ServletContext;
+
+/**
+ * Mesures par route des requêtes dynamiques : nombre, erreurs et
+ * histogrammes de durée par étape (routage, liaison des arguments,
+ * appel du contrôleur, rendu JSON / texte / forward ModelView, total).
+ * Actives par défaut ; {@code sprint.metrics.enabled=false} les coupe.
+ * Consultées via {@link ScanServlet}.
+ */
+public final class RequestMetrics {
+
+    public static final String ATTR = "sprint.metrics";
+    public static final String ENABLED_PARAM = "sprint.metrics.enabled";
+
+    /** Étapes mesurées, dans l'ordre du traitement. */
+    public enum Stage { ROUTING, BINDING, INVOKE, RENDER, TOTAL }
+
+    private final boolean enabled;
+    // Une entrée par route (méthode HTTP + motif + handler), stable d'un rechargement à l'autre :
+    // aucune référence aux plans, qui sont remplacés à chaque publication de table
+    private final Map<RouteKey, Route> routes = new ConcurrentHashMap<>();
+    private final LongAdder unmatched = new LongAdder();
+
+    private RequestMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Mesures du contexte, créées au premier appel.
+     */
+    public static RequestMetrics of(ServletContext context) {
+        synchronized (RequestMetrics.class) {
+            Object metrics = context.getAttribute(ATTR);
+            if (metrics instanceof RequestMetrics) {
+                return (RequestMetrics) metrics;
+            }
+            RequestMetrics created = new RequestMetrics(SprintConfig.getBoolean(context, ENABLED_PARAM, true));
+            context.setAttribute(ATTR, created);
+            return created;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    Route route(HandlerPlan plan, UrlMapping mapping) {
+        // Les chaînes de la clé gardent leur hash en cache : pas de concaténation par requête
+        RouteKey key = new RouteKey(plan.getHttpMethod(), mapping.getPattern().getPattern(),
+                plan.getControllerClass().getName(), plan.getMethod().getName());
+        Route route = routes.get(key);
+        if (route == null) {
+            route = routes.computeIfAbsent(key, k -> new Route(k.httpMethod, k.pattern,
+                    k.controller + "#" + k.method));
+        }
+        return route;
+    }
+
+    /** Identité d'une route, indépendante du chargeur de classes et du plan. */
+    private static final class RouteKey {
+        final String httpMethod;
+        final String pattern;
+        final String controller;
+        final String method;
+
+        RouteKey(String httpMethod, String pattern, String controller, String method) {
+            this.httpMethod = httpMethod;
+            this.pattern = pattern;
+            this.controller = controller;
+            this.method = method;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof RouteKey)) {
+                return false;
+            }
+            RouteKey other = (RouteKey) o;
+            return Objects.equals(httpMethod, other.httpMethod) && pattern.equals(other.pattern)
+                    && controller.equals(other.controller) && method.equals(other.method);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((Objects.hashCode(httpMethod) * 31 + pattern.hashCode()) * 31
+                    + controller.hashCode()) * 31 + method.hashCode();
+        }
+    }
+
+    void recordUnmatched() {
+        unmatched.increment();
+    }
+
+    /** Requêtes sans route correspondante (404). */
+    public long getUnmatched() {
+        return unmatched.sum();
+    }
+
+    /** Routes ayant reçu au moins une requête, par volume décroissant. */
+    public List<Route> getRoutes() {
+        List<Route> list = new ArrayList<>(routes.values());
+        list.sort(Comparator.comparingLong(Route::getRequests).reversed());
+        return list;
+    }
+
+    /**
+     * Compteurs et histogrammes d'une route.
+     */
+    public static final class Route {
+        private final String httpMethod;
+        private final String pattern;
+        private final String handler;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram[] stages = new LatencyHistogram[Stage.values().length];
+
+        Route(String httpMethod, String pattern, String handler) {
+            this.httpMethod = httpMethod;
+            this.pattern = pattern;
+            this.handler = handler;
+            for (int i = 0; i < stages.length; i++) {
+                stages[i] = new LatencyHistogram();
+            }
+        }
+
+        /**
+         * Enregistre une requête à partir des instants relevés (System.nanoTime) ;
+         * 0 pour une étape non atteinte.
+         */
+        void record(long start, long routed, long bound, long invoked, long end, boolean failed) {
+            requests.increment();
+            if (failed) {
+                errors.increment();
+            }
+            stages[Stage.ROUTING.ordinal()].record(routed - start);
+            if (bound != 0) {
+                stages[Stage.BINDING.ordinal()].record(bound - routed);
+                if (invoked != 0) {
+                    stages[Stage.INVOKE.ordinal()].record(invoked - bound);
+                    stages[Stage.RENDER.ordinal()].record(end - invoked);
+                }
+            }
+            stages[Stage.TOTAL.ordinal()].record(end - start);
+        }
+
+        public String getHttpMethod() {
+            return httpMethod;
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public String getHandler() {
+            return handler;
+        }
+
+        public long getRequests() {
+            return requests.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public LatencyHistogram getHistogram(Stage stage) {
+            return stages[stage.ordinal()];
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package itu.sprint.servlet;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+import itu.sprint.SprintConfig;
+import itu.sprint.annotation.Compression;
+import itu.sprint.util.HandlerPlan;
+import itu.sprint.util.ResponseMode;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Compression gzip à la volée des réponses dynamiques (JSON et texte).
+ * Désactivée par défaut ; activée globalement par
+ * {@code sprint.compression.enabled=true} ou par route avec
+ * {@code @MapURL(compress = Compression.ON)}. Seuls les corps d'au moins
+ * {@code sprint.compression.minSize} octets dont le type figure dans
+ * {@code sprint.compression.types} sont compressés.
+ */
+public class ResponseCompressor {
+
+    public static final String ATTR = "sprint.compression";
+    public static final String ENABLED_PARAM = "sprint.compression.enabled";
+    public static final String MIN_SIZE_PARAM = "sprint.compression.minSize";
+    public static final String TYPES_PARAM = "sprint.compression.types";
+    public static final String LEVEL_PARAM = "sprint.compression.level";
+
+    private static final long DEFAULT_MIN_SIZE = 1024;
+    private static final String[] DEFAULT_TYPES = {
+        "application/json", "text/plain", "text/html", "text/css", "application/javascript", "application/xml", "text/xml"
+    };
+
+    private final boolean enabledByDefault;
+    private final int minSize;
+    private final String[] types;
+    private final int level;
+
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+
+    public ResponseCompressor(ServletContext context) {
+        this.enabledByDefault = SprintConfig.getBoolean(context, ENABLED_PARAM, false);
+        this.minSize = (int) Math.max(0, Math.min(SprintConfig.getLong(context, MIN_SIZE_PARAM, DEFAULT_MIN_SIZE), 1 << 20));
+        List<String> configured = SprintConfig.getList(context, TYPES_PARAM);
+        this.types = configured.isEmpty() ? DEFAULT_TYPES : configured.toArray(new String[0]);
+        this.level = (int) SprintConfig.getLong(context, LEVEL_PARAM, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Vrai si la réponse de ce plan peut être compressée (mode JSON ou texte
+     * et compression active pour la route).
+     */
+    public boolean appliesTo(HandlerPlan plan) {
+        if (plan.getResponseMode() == ResponseMode.MODEL_VIEW) {
+            return false;
+        }
+        Compression compression = plan.getCompression();
+        return compression == Compression.ON || (compression == Compression.DEFAULT && enabledByDefault);
+    }
+
+    /**
+     * Enveloppe la réponse si le client accepte gzip ; retourne null sinon.
+     * Vary est posé dans tous les cas : l'encodage dépend de la requête.
+     */
+    GzipResponse wrap(HttpServletRequest req, HttpServletResponse resp) {
+        resp.addHeader("Vary", "Accept-Encoding");
+        if (!PrecompressedAssets.accepts(req.getHeader("Accept-Encoding"), PrecompressedAssets.GZIP)) {
+            return null;
+        }
+        return new GzipResponse(resp, this);
+    }
+
+    int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * Deflater propre à une réponse : une réponse passée en asynchrone
+     * continue de compresser après le retour du thread au pool, il ne peut
+     * donc pas être partagé par thread. Libéré par {@link GzipResponse#finish()}.
+     */
+    Deflater newDeflater() {
+        return new Deflater(level, true);
+    }
+
+    boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int semi = contentType.indexOf(';');
+        String mime = (semi < 0 ? contentType : contentType.substring(0, semi)).trim();
+        for (String type : types) {
+            if (type.equalsIgnoreCase(mime)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void record(long in, long out) {
+        responses.increment();
+        bytesIn.add(in);
+        bytesOut.add(out);
+    }
+
+    /** Nombre de réponses compressées. */
+    public long getCompressedResponses() {
+        return responses.sum();
+    }
+
+    /** Octets produits par les contrôleurs avant compression. */
+    public long getBytesIn() {
+        return bytesIn.sum();
+    }
+
+    /** Octets envoyés après compression (en-tête et fin gzip compris). */
+    public long getBytesOut() {
+        return bytesOut.sum();
+    }
+}
@@ -2,9 +2,12 @@ package itu.sprint.servlet;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.lang.reflect.Method;
-import java.util.Map;
+import java.util.Locale;
 
+import itu.sprint.util.LatencyHistogram;
+import itu.sprint.util.RouteTable;
+import itu.sprint.util.RouteTableHolder;
+import itu.sprint.util.UrlMapping;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -12,29 +15,149 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 /**
- * Affiche les classes et methodes annotees
+ * Affiche les classes et methodes annotees, puis les mesures par route
+ * ({@link RequestMetrics}). /scan?format=prometheus renvoie les mêmes
+ * mesures au format d'exposition Prometheus ; pas de chemin dédié, qui
+ * masquerait une route de l'application (ex: @MapURL("/metrics")).
  */
-@WebServlet(name = "ScanServlet", urlPatterns = "/scan", loadOnStartup = 1)
+@WebServlet(name = "ScanServlet", urlPatterns = { "/scan" }, loadOnStartup = 1)
 public class ScanServlet extends HttpServlet {
 
+    // Bornes des histogrammes exportés, en secondes
+    private static final double[] BUCKETS_SECONDS = {
+        0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+
+    private RouteTableHolder routes;
+    private RequestMetrics metrics;
+
+    @Override
+    public void init() throws ServletException {
+        routes = RouteTableHolder.of(getServletContext());
+        metrics = RequestMetrics.of(getServletContext());
+    }
+
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp)
             throws ServletException, IOException {
 
+        if ("prometheus".equals(req.getParameter("format"))) {
+            resp.setContentType("text/plain; version=0.0.4; charset=UTF-8");
+            writePrometheus(resp.getWriter());
+            return;
+        }
+
         resp.setContentType("text/plain; charset=UTF-8");
         PrintWriter out = resp.getWriter();
 
-    Map<String, Map<Class<?>, Method>> urlMap = (Map<String, Map<Class<?>, Method>>) getServletContext().getAttribute(itu.sprint.ControllerScanner.CONTROLLERS_MAP_ATTR);
+        RouteTable table = routes.get();
+        if (table == null) {
+            out.println("Routes en cours de construction");
+            return;
+        }
 
         out.println("=== MAPPINGS URL -> Controller#Method ===\n");
-        out.println("URLs mappées : " + urlMap.size() + "\n");
+        out.println("URLs mappées : " + table.getMappings().size() + "\n");
 
-        urlMap.forEach((url, classMethodMap) -> {
-            out.println("URL : " + url);
-            classMethodMap.forEach((cls, method) -> {
+        for (UrlMapping mapping : table.getMappings()) {
+            out.println("URL : " + mapping.getPattern().getPattern());
+            mapping.getClassMethodMap().forEach((cls, method) -> {
                 out.println("  - " + cls.getName() + "#" + method.getName() + "()");
             });
             out.println();
-        });
+        }
+
+        writeText(out);
+    }
+
+    private void writeText(PrintWriter out) {
+        out.println("=== MESURES PAR ROUTE ===\n");
+        if (!metrics.isEnabled()) {
+            out.println("Mesures désactivées (" + RequestMetrics.ENABLED_PARAM + "=false)");
+            return;
+        }
+        out.println("Requêtes sans route : " + metrics.getUnmatched() + "\n");
+        for (RequestMetrics.Route route : metrics.getRoutes()) {
+            out.println(route.getHttpMethod() + " " + route.getPattern() + " -> " + route.getHandler());
+            out.println("  requêtes : " + route.getRequests() + ", erreurs : " + route.getErrors());
+            for (RequestMetrics.Stage stage : RequestMetrics.Stage.values()) {
+                LatencyHistogram histogram = route.getHistogram(stage);
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                out.println(String.format(Locale.ROOT, "  %-8s p50 %s  p99 %s  p99.9 %s  max %s",
+                        stage.name().toLowerCase(Locale.ROOT),
+                        millis(histogram.valueAtPercentile(50)), millis(histogram.valueAtPercentile(99)),
+                        millis(histogram.valueAtPercentile(99.9)), millis(histogram.getMaxNanos())));
+            }
+            out.println();
+        }
+        ResponseCompressor compressor = (ResponseCompressor) getServletContext().getAttribute(ResponseCompressor.ATTR);
+        if (compressor != null && compressor.getCompressedResponses() > 0) {
+            out.println("Réponses compressées : " + compressor.getCompressedResponses()
+                    + " (" + compressor.getBytesIn() + " -> " + compressor.getBytesOut() + " octets)");
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000.0);
+    }
+
+    private void writePrometheus(PrintWriter out) {
+        out.println("# HELP sprint_unmatched_requests_total Requêtes sans route correspondante.");
+        out.println("# TYPE sprint_unmatched_requests_total counter");
+        out.println("sprint_unmatched_requests_total " + metrics.getUnmatched());
+
+        out.println("# HELP sprint_requests_total Requêtes traitées par route.");
+        out.println("# TYPE sprint_requests_total counter");
+        for (RequestMetrics.Route route : metrics.getRoutes()) {
+            out.println("sprint_requests_total{" + labels(route) + "} " + route.getRequests());
+        }
+        out.println("# HELP sprint_request_errors_total Requêtes terminées en erreur par route.");
+        out.println("# TYPE sprint_request_errors_total counter");
+        for (RequestMetrics.Route route : metrics.getRoutes()) {
+            out.println("sprint_request_errors_total{" + labels(route) + "} " + route.getErrors());
+        }
+
+        long[] bounds = new long[BUCKETS_SECONDS.length];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = (long) (BUCKETS_SECONDS[i] * 1_000_000_000L);
+        }
+        out.println("# HELP sprint_request_duration_seconds Durée des requêtes par route et par étape.");
+        out.println("# TYPE sprint_request_duration_seconds histogram");
+        for (RequestMetrics.Route route : metrics.getRoutes()) {
+            for (RequestMetrics.Stage stage : RequestMetrics.Stage.values()) {
+                LatencyHistogram histogram = route.getHistogram(stage);
+                String labels = labels(route) + ",stage=\"" + stage.name().toLowerCase(Locale.ROOT) + "\"";
+                long[] cumulative = histogram.cumulativeCounts(bounds);
+                for (int i = 0; i < bounds.length; i++) {
+                    out.println("sprint_request_duration_seconds_bucket{" + labels + ",le=\""
+                            + BUCKETS_SECONDS[i] + "\"} " + cumulative[i]);
+                }
+                long count = histogram.getCount();
+                out.println("sprint_request_duration_seconds_bucket{" + labels + ",le=\"+Inf\"} " + count);
+                out.println("sprint_request_duration_seconds_sum{" + labels + "} " + histogram.getSumNanos() / 1e9);
+                out.println("sprint_request_duration_seconds_count{" + labels + "} " + count);
+            }
+        }
+
+        ResponseCompressor compressor = (ResponseCompressor) getServletContext().getAttribute(ResponseCompressor.ATTR);
+        if (compressor != null) {
+            out.println("# TYPE sprint_compressed_responses_total counter");
+            out.println("sprint_compressed_responses_total " + compressor.getCompressedResponses());
+            out.println("# TYPE sprint_compression_bytes_in_total counter");
+            out.println("sprint_compression_bytes_in_total " + compressor.getBytesIn());
+            out.println("# TYPE sprint_compression_bytes_out_total counter");
+            out.println("sprint_compression_bytes_out_total " + compressor.getBytesOut());
+        }
+    }
+
+    private static String labels(RequestMetrics.Route route) {
+        return "method=\"" + escape(route.getHttpMethod()) + "\",route=\"" + escape(route.getPattern())
+                + "\",handler=\"" + escape(route.getHandler()) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
     }
 }
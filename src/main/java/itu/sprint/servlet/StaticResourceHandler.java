@@ -0,0 +1,700 @@
+package itu.sprint.servlet;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import itu.sprint.Log;
+import itu.sprint.SprintConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sert les fichiers statiques de la webapp sans passer par la servlet par
+ * défaut du conteneur : ETag / Last-Modified, réponses 304 sur
+ * If-None-Match / If-Modified-Since, requêtes Range (un seul intervalle).
+ * Les métadonnées résolues sont gardées en cache et revalidées au plus
+ * toutes les {@code sprint.static.revalidateMillis} ms (-1 = jamais).
+ * <p>
+ * Le tri statique / dynamique se fait en mémoire : index des ressources de
+ * la webapp construit au démarrage (getResourcePaths, rafraîchi par un
+ * WatchService en mode dev) et préfixes déclarés dans
+ * {@code sprint.static.prefixes} (ex: /assets/,/css/), vérifiés en premier.
+ * <p>
+ * Les variantes .br / .gz (livrées, ou générées au démarrage si
+ * {@code sprint.static.precompress=true}) sont choisies selon Accept-Encoding.
+ */
+public class StaticResourceHandler {
+
+    public static final String REVALIDATE_PARAM = "sprint.static.revalidateMillis";
+    public static final String PREFIXES_PARAM = "sprint.static.prefixes";
+    public static final String PRECOMPRESS_PARAM = "sprint.static.precompress";
+    private static final long DEFAULT_REVALIDATE_MILLIS = 5000;
+    // Au-delà, les chemins inexistants ne sont plus mis en cache (URLs arbitraires)
+    private static final int MAX_MISSING_ENTRIES = 10_000;
+
+    /**
+     * Nature d'un chemin : fichier servi ici, ressource laissée au conteneur
+     * (répertoire, JSP, WAR non décompressé) ou rien du tout.
+     */
+    public enum Kind { FILE, CONTAINER, MISSING }
+
+    private static final Resource NOT_STATIC = new Resource(Kind.MISSING, null, null, 0);
+
+    private final ServletContext context;
+    private final long revalidateMillis;
+    private final Map<String, Resource> cache = new ConcurrentHashMap<>();
+    private final AtomicInteger missingCount = new AtomicInteger();
+    private final String[] staticPrefixes;
+    private final PrecompressedAssets precompressed;
+    // null si le conteneur ne sait pas lister les ressources
+    private volatile Set<String> index;
+    private IndexWatcher watcher;
+
+    public StaticResourceHandler(ServletContext context) {
+        this.context = context;
+        this.revalidateMillis = SprintConfig.getLong(context, REVALIDATE_PARAM, DEFAULT_REVALIDATE_MILLIS);
+        List<String> prefixes = SprintConfig.getList(context, PREFIXES_PARAM);
+        this.staticPrefixes = prefixes.stream()
+                .map(p -> p.startsWith("/") ? p : "/" + p)
+                .toArray(String[]::new);
+        this.precompressed = new PrecompressedAssets(context, SprintConfig.getBoolean(context, PRECOMPRESS_PARAM, false));
+        this.index = buildIndex();
+        if (index == null) {
+            Log.info("Index statique indisponible : résolution à la demande");
+        } else {
+            Log.info("Ressources statiques indexées : " + index.size());
+            if (precompressed.isGenerating()) {
+                startPrecompression();
+            }
+            if (SprintConfig.isDevMode(context)) {
+                startWatcher();
+            }
+        }
+    }
+
+    /**
+     * Les .gz sont générés hors du chemin des requêtes ; d'ici là les
+     * fichiers sont servis tels quels.
+     */
+    private void startPrecompression() {
+        Thread thread = new Thread(this::precompress, "sprint-static-gzip");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void precompress() {
+        Set<String> current = index;
+        if (current == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        int written = precompressed.generate(current);
+        if (written > 0) {
+            cache.clear();
+            missingCount.set(0);
+            Log.info("Ressources compressées : " + written + " ("
+                    + (System.nanoTime() - start) / 1_000_000 + " ms)");
+        }
+    }
+
+    /**
+     * Classe un chemin sans accès disque pour les URLs dynamiques : préfixes
+     * statiques déclarés, puis index ; MISSING signifie « à router ».
+     * Le chemin brut de la requête est d'abord normalisé ({@link #normalize}).
+     *
+     * @param routePrefixes premiers segments littéraux des routes de la table
+     *                      courante (ex: "api"), utilisés quand aucun index
+     *                      n'a pu être construit ; null si aucune table
+     */
+    public Resource classify(String rawPath, Set<String> routePrefixes) {
+        String path = normalize(rawPath);
+        if (path == null) {
+            return NOT_STATIC;
+        }
+        for (String prefix : staticPrefixes) {
+            if (path.startsWith(prefix)) {
+                return find(path);
+            }
+        }
+        Set<String> current = index;
+        if (current != null) {
+            return current.contains(path) ? find(path) : NOT_STATIC;
+        }
+        if (routePrefixes != null && routePrefixes.contains(firstSegment(path))) {
+            return NOT_STATIC;
+        }
+        return find(path);
+    }
+
+    /**
+     * Chemin décodé (%XX en UTF-8), '/' répétés fusionnés, segments "." et
+     * ".." résolus. null si le chemin ne commence pas par '/', remonte
+     * au-dessus de la racine, contient une barre oblique inverse ou un
+     * caractère de contrôle, ou est mal encodé : jamais servi comme ressource.
+     */
+    static String normalize(String path) {
+        if (path == null || !path.startsWith("/")) {
+            return null;
+        }
+        if (path.indexOf('%') >= 0) {
+            path = decode(path);
+            if (path == null) {
+                return null;
+            }
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '\\' || c < 0x20 || c == 0x7f) {
+                return null;
+            }
+        }
+        if (!needsNormalization(path)) {
+            return path;
+        }
+        String[] segments = path.split("/", -1);
+        String[] kept = new String[segments.length];
+        int count = 0;
+        for (String segment : segments) {
+            if (segment.isEmpty() || segment.equals(".")) {
+                continue;
+            }
+            if (segment.equals("..")) {
+                if (count == 0) {
+                    return null;
+                }
+                count--;
+            } else {
+                kept[count++] = segment;
+            }
+        }
+        StringBuilder sb = new StringBuilder(path.length());
+        for (int i = 0; i < count; i++) {
+            sb.append('/').append(kept[i]);
+        }
+        if (count == 0 || path.endsWith("/")) {
+            sb.append('/');
+        }
+        return sb.toString();
+    }
+
+    private static boolean needsNormalization(String path) {
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == '/' && i + 1 < path.length()) {
+                char next = path.charAt(i + 1);
+                if (next == '/' || next == '.') {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String decode(String path) {
+        byte[] bytes = new byte[path.length()];
+        int length = 0;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= path.length()) {
+                    return null;
+                }
+                int high = Character.digit(path.charAt(i + 1), 16);
+                int low = Character.digit(path.charAt(i + 2), 16);
+                if (high < 0 || low < 0) {
+                    return null;
+                }
+                bytes[length++] = (byte) (high << 4 | low);
+                i += 2;
+            } else if (c < 0x80) {
+                bytes[length++] = (byte) c;
+            } else {
+                return null; // l'URI brute est en ASCII
+            }
+        }
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        try {
+            return decoder.decode(ByteBuffer.wrap(bytes, 0, length)).toString();
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    private static String firstSegment(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return path.substring(start, end < 0 ? path.length() : end);
+    }
+
+    /**
+     * Liste récursivement les ressources publiques (hors WEB-INF / META-INF) ;
+     * les répertoires sont indexés avec et sans '/' final.
+     */
+    private Set<String> buildIndex() {
+        Set<String> root = context.getResourcePaths("/");
+        if (root == null) {
+            return null;
+        }
+        Set<String> paths = new HashSet<>();
+        paths.add("/");
+        collect(root, paths);
+        return Collections.unmodifiableSet(paths);
+    }
+
+    private void collect(Set<String> entries, Set<String> into) {
+        for (String entry : entries) {
+            if (isProtected(entry)) {
+                continue;
+            }
+            if (entry.endsWith("/")) {
+                into.add(entry);
+                into.add(entry.substring(0, entry.length() - 1));
+                Set<String> children = context.getResourcePaths(entry);
+                if (children != null) {
+                    collect(children, into);
+                }
+            } else {
+                into.add(entry);
+            }
+        }
+    }
+
+    private static boolean isProtected(String path) {
+        String upper = path.toUpperCase(Locale.ROOT);
+        return upper.startsWith("/WEB-INF") || upper.startsWith("/META-INF");
+    }
+
+    /**
+     * Reconstruit l'index et vide le cache de métadonnées.
+     */
+    public void refresh() {
+        index = buildIndex();
+        cache.clear();
+        missingCount.set(0);
+        if (precompressed.isGenerating()) {
+            precompress();
+        }
+    }
+
+    private void startWatcher() {
+        String realRoot = context.getRealPath("/");
+        if (realRoot == null) {
+            return;
+        }
+        try {
+            watcher = new IndexWatcher(Path.of(realRoot));
+            Thread thread = new Thread(watcher, "sprint-static-watcher");
+            thread.setDaemon(true);
+            thread.start();
+            Log.info("Surveillance des ressources statiques : " + realRoot);
+        } catch (IOException e) {
+            Log.warn("Surveillance impossible : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Arrête la surveillance des fichiers (mode dev).
+     */
+    public void close() {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    /**
+     * Métadonnées immuables d'une ressource résolue.
+     */
+    public static final class Resource {
+        final Kind kind;
+        final File file;
+        final long length;
+        final long lastModified;
+        final String etag;
+        final String contentType;
+        final long checkedAt;
+        final Encoded brotli;
+        final Encoded gzip;
+
+        Resource(Kind kind, File file, String contentType, long checkedAt) {
+            this(kind, file, contentType, checkedAt, null, null);
+        }
+
+        Resource(Kind kind, File file, String contentType, long checkedAt, File brotli, File gzip) {
+            this.kind = kind;
+            this.file = file;
+            this.length = file != null ? file.length() : 0;
+            this.lastModified = file != null ? file.lastModified() : 0;
+            this.etag = file != null ? "W/\"" + length + "-" + lastModified + "\"" : null;
+            this.contentType = contentType;
+            this.checkedAt = checkedAt;
+            this.brotli = brotli != null ? new Encoded(PrecompressedAssets.BROTLI, brotli, this) : null;
+            this.gzip = gzip != null ? new Encoded(PrecompressedAssets.GZIP, gzip, this) : null;
+        }
+
+        boolean hasEncodings() {
+            return brotli != null || gzip != null;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+    }
+
+    /**
+     * Variante précompressée : ETag distinct de celui de l'original.
+     */
+    static final class Encoded {
+        final String coding;
+        final File file;
+        final long length;
+        final String etag;
+
+        Encoded(String coding, File file, Resource original) {
+            this.coding = coding;
+            this.file = file;
+            this.length = file.length();
+            this.etag = original.etag.substring(0, original.etag.length() - 1) + "-" + coding + "\"";
+        }
+    }
+
+    /**
+     * Résout un chemin (ex: /css/app.css) depuis le cache ; le système de
+     * fichiers n'est consulté qu'au premier accès ou à la revalidation.
+     */
+    public Resource lookup(String path) {
+        String normalized = normalize(path);
+        return normalized != null ? find(normalized) : NOT_STATIC;
+    }
+
+    private Resource find(String path) {
+        Resource cached = cache.get(path);
+        long now = System.currentTimeMillis();
+        if (cached != null && (revalidateMillis < 0 || now - cached.checkedAt < revalidateMillis)) {
+            return cached;
+        }
+        Resource resolved = resolve(path, now);
+        if (resolved.kind != Kind.MISSING) {
+            cache.put(path, resolved);
+        } else if (cached != null || missingCount.get() < MAX_MISSING_ENTRIES) {
+            if (cache.put(path, resolved) == null) {
+                missingCount.incrementAndGet();
+            }
+        }
+        return resolved;
+    }
+
+    private Resource resolve(String path, long now) {
+        if (path == null || path.isEmpty()) {
+            return new Resource(Kind.MISSING, null, null, now);
+        }
+        if (isProtected(path)) {
+            return new Resource(Kind.MISSING, null, null, now);
+        }
+        String realPath;
+        try {
+            realPath = context.getRealPath(path);
+        } catch (IllegalArgumentException e) {
+            // hors de la racine de la webapp
+            return new Resource(Kind.MISSING, null, null, now);
+        }
+        if (realPath != null) {
+            File file = new File(realPath);
+            if (file.isFile() && !isJsp(path)) {
+                return new Resource(Kind.FILE, file, context.getMimeType(file.getName()), now,
+                        precompressed.brotli(file), precompressed.gzip(path, file));
+            }
+            if (file.exists()) {
+                return new Resource(Kind.CONTAINER, null, null, now);
+            }
+        }
+        try {
+            // WAR non décompressé ou ressource d'un JAR (META-INF/resources)
+            if (context.getResource(path) != null) {
+                return new Resource(Kind.CONTAINER, null, null, now);
+            }
+        } catch (MalformedURLException | IllegalArgumentException e) {
+            // chemin invalide : inexistant
+        }
+        return new Resource(Kind.MISSING, null, null, now);
+    }
+
+    private static boolean isJsp(String path) {
+        return path.endsWith(".jsp") || path.endsWith(".jspx");
+    }
+
+    /**
+     * Envoie le fichier avec gestion du cache HTTP et des requêtes Range.
+     */
+    public void serve(Resource resource, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        resp.setHeader("ETag", resource.etag);
+        resp.setDateHeader("Last-Modified", resource.lastModified);
+        resp.setHeader("Accept-Ranges", "bytes");
+        if (resource.contentType != null) {
+            resp.setContentType(resource.contentType);
+        }
+
+        // Les intervalles portent sur l'original : pas de variante compressée avec Range
+        Encoded encoded = null;
+        if (resource.hasEncodings()) {
+            resp.setHeader("Vary", "Accept-Encoding");
+            if (req.getHeader("Range") == null) {
+                encoded = chooseEncoding(resource, req.getHeader("Accept-Encoding"));
+            }
+        }
+        if (encoded != null) {
+            resp.setHeader("ETag", encoded.etag);
+        }
+
+        if (isNotModified(resource, encoded != null ? encoded.etag : resource.etag, req)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        if (encoded != null) {
+            resp.setHeader("Content-Encoding", encoded.coding);
+            resp.setContentLengthLong(encoded.length);
+            if (!"HEAD".equalsIgnoreCase(req.getMethod())) {
+                transfer(encoded.file, 0, encoded.length, resp);
+            }
+            return;
+        }
+
+        long start = 0;
+        long end = resource.length - 1;
+        String range = req.getHeader("Range");
+        if (range != null && rangeApplies(resource, req)) {
+            long[] bounds = parseRange(range, resource.length);
+            if (bounds == null) {
+                resp.setHeader("Content-Range", "bytes */" + resource.length);
+                resp.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (bounds.length == 2) {
+                start = bounds[0];
+                end = bounds[1];
+                resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                resp.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + resource.length);
+            }
+        }
+
+        long count = end - start + 1;
+        resp.setContentLengthLong(Math.max(count, 0));
+        if ("HEAD".equalsIgnoreCase(req.getMethod()) || count <= 0) {
+            return;
+        }
+        transfer(resource.file, start, count, resp);
+    }
+
+    private static Encoded chooseEncoding(Resource resource, String acceptEncoding) {
+        if (resource.brotli != null && PrecompressedAssets.accepts(acceptEncoding, PrecompressedAssets.BROTLI)) {
+            return resource.brotli;
+        }
+        if (resource.gzip != null && PrecompressedAssets.accepts(acceptEncoding, PrecompressedAssets.GZIP)) {
+            return resource.gzip;
+        }
+        return null;
+    }
+
+    private static boolean isNotModified(Resource resource, String etag, HttpServletRequest req) {
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            return matchesEtag(ifNoneMatch, etag);
+        }
+        long ifModifiedSince = dateHeader(req, "If-Modified-Since");
+        // Les dates HTTP sont à la seconde près
+        return ifModifiedSince >= 0 && resource.lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    private static boolean matchesEtag(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || ("W/" + value).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-Range : on ne renvoie un intervalle que si la ressource n'a pas changé.
+     */
+    private static boolean rangeApplies(Resource resource, HttpServletRequest req) {
+        String ifRange = req.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.trim().equals(resource.etag);
+        }
+        long date = dateHeader(req, "If-Range");
+        return date >= 0 && resource.lastModified / 1000 <= date / 1000;
+    }
+
+    private static long dateHeader(HttpServletRequest req, String name) {
+        try {
+            return req.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Analyse "bytes=a-b", "bytes=a-" ou "bytes=-n". Retourne {début, fin},
+     * un tableau vide si l'en-tête est ignoré (plusieurs intervalles, autre
+     * unité : réponse complète) ou null si l'intervalle est insatisfiable.
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            long start;
+            long end;
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                end = dash == spec.length() - 1 ? length - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), length - 1);
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[] {start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    /**
+     * Copie via FileChannel.transferTo vers le flux de la réponse. La cible
+     * n'étant pas un canal de socket, le JDK recopie par blocs dans un
+     * tampon du tas : pas de zero-copy, seulement une boucle sans tampon
+     * applicatif.
+     */
+    private static void transfer(File file, long start, long count, HttpServletResponse resp) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(resp.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * Surveille l'arborescence de la webapp ; chaque rafale d'événements
+     * déclenche une seule reconstruction de l'index.
+     */
+    private final class IndexWatcher implements Runnable {
+        private static final long QUIET_MILLIS = 200;
+
+        private final Path root;
+        private final WatchService service;
+
+        IndexWatcher(Path root) throws IOException {
+            this.root = root;
+            this.service = FileSystems.getDefault().newWatchService();
+            registerTree(root);
+        }
+
+        private void registerTree(Path start) throws IOException {
+            try (Stream<Path> dirs = Files.walk(start)) {
+                for (Path dir : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator) {
+                    if (!isProtected("/" + root.relativize(dir).toString().replace('\\', '/'))) {
+                        dir.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                                StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    WatchKey key = service.take();
+                    do {
+                        handle(key);
+                        key = service.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+                    } while (key != null);
+                    refresh();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ClosedWatchServiceException e) {
+                // arrêt demandé
+            }
+        }
+
+        private void handle(WatchKey key) {
+            Path dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    Path created = dir.resolve((Path) event.context());
+                    if (Files.isDirectory(created)) {
+                        try {
+                            registerTree(created);
+                        } catch (IOException e) {
+                            Log.warn("Surveillance impossible : " + created);
+                        }
+                    }
+                }
+            }
+            key.reset();
+        }
+
+        void close() {
+            try {
+                service.close();
+            } catch (IOException e) {
+                // ignoré
+            }
+        }
+    }
+}
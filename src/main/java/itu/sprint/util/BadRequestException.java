@@ -0,0 +1,13 @@
+package itu.sprint.util;
+
+/**
+ * Requête rejetée pendant la liaison des paramètres (corps illisible ou
+ * d'un type inattendu) : le FrontServlet répond 400 sans appeler le
+ * contrôleur.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package itu.sprint.util;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Convertit le corps d'une requête vers le type d'un paramètre de contrôleur.
+ * Enregistré par type de contenu via {@link ParamBinders#registerBodyReader}.
+ */
+@FunctionalInterface
+public interface BodyReader {
+    Object read(HttpServletRequest req, Type type) throws IOException;
+}
@@ -0,0 +1,290 @@
+package itu.sprint.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Lecture minimale d'un fichier .class pour savoir si une classe (ou l'une
+ * de ses méthodes) porte une annotation, sans charger la classe ni exécuter
+ * ses initialiseurs statiques. Seuls le pool de constantes et les attributs
+ * RuntimeVisibleAnnotations sont décodés.
+ * <p>
+ * Les annotations sont désignées par leur nom simple (comme le scanner :
+ * "AnnotationController" accepte tout paquetage). En cas de fichier
+ * illisible ou de format inconnu, la réponse est « oui » : l'appelant
+ * retombe sur le chargement classique.
+ */
+public final class ClassFileAnnotations {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    // Au-delà, le fichier est projeté en mémoire plutôt que lu
+    private static final long MAP_THRESHOLD = 256 * 1024;
+    private static final byte[] RUNTIME_VISIBLE = "RuntimeVisibleAnnotations".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<ByteBuffer> BUFFERS = ThreadLocal.withInitial(() -> ByteBuffer.allocate(16 * 1024));
+
+    /** Annotation cherchée sur la classe elle-même */
+    public static final int ON_CLASS = 1;
+    /** Annotation cherchée sur les méthodes */
+    public static final int ON_METHODS = 2;
+
+    private ClassFileAnnotations() {
+    }
+
+    public static boolean isAnnotated(File classFile, String simpleName, int targets) {
+        try (FileChannel channel = FileChannel.open(classFile.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer;
+            if (size > MAP_THRESHOLD) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = buffer((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // lecture complète
+                }
+                buffer.flip();
+            }
+            return isAnnotated(buffer, simpleName, targets);
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Variante pour une entrée de JAR (le flux n'est pas fermé).
+     */
+    public static boolean isAnnotated(InputStream in, long size, String simpleName, int targets) {
+        try {
+            ByteBuffer buffer = buffer(size > 0 && size <= Integer.MAX_VALUE ? (int) size : 16 * 1024);
+            byte[] array = buffer.array();
+            int length = 0;
+            int read;
+            while (true) {
+                if (length == array.length) {
+                    int next = in.read();
+                    if (next < 0) {
+                        break;
+                    }
+                    array = Arrays.copyOf(array, array.length * 2);
+                    array[length++] = (byte) next;
+                }
+                read = in.read(array, length, array.length - length);
+                if (read < 0) {
+                    break;
+                }
+                length += read;
+            }
+            return isAnnotated(ByteBuffer.wrap(array, 0, length), simpleName, targets);
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static ByteBuffer buffer(int size) {
+        ByteBuffer buffer = BUFFERS.get();
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocate(Math.max(size, buffer.capacity() * 2));
+            BUFFERS.set(buffer);
+        }
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    public static boolean isAnnotated(ByteBuffer buffer, String simpleName, int targets) {
+        try {
+            return new Reader(buffer, simpleName).scan(targets);
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException e) {
+            return true;
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer buffer;
+        private final byte[] suffix;
+        private final byte[] bare;
+        private int[] utf8Offsets;
+        // Entrées du pool qui désignent l'annotation cherchée
+        private boolean[] matches;
+
+        Reader(ByteBuffer buffer, String simpleName) {
+            this.buffer = buffer;
+            this.suffix = ("/" + simpleName + ";").getBytes(StandardCharsets.UTF_8);
+            this.bare = ("L" + simpleName + ";").getBytes(StandardCharsets.UTF_8);
+        }
+
+        boolean scan(int targets) {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("pas un fichier .class");
+            }
+            buffer.getInt(); // versions
+            if (!readConstantPool()) {
+                // Le descripteur n'apparaît nulle part : réponse sans aller plus loin
+                return false;
+            }
+            buffer.position(buffer.position() + 6); // access_flags, this_class, super_class
+            int interfaces = buffer.getShort() & 0xFFFF;
+            buffer.position(buffer.position() + 2 * interfaces);
+
+            int fields = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < fields; i++) {
+                buffer.position(buffer.position() + 6);
+                skipAttributes();
+            }
+            boolean found = false;
+            int methods = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < methods; i++) {
+                buffer.position(buffer.position() + 6);
+                if (readAttributes((targets & ON_METHODS) != 0)) {
+                    found = true;
+                }
+            }
+            if (found) {
+                return true;
+            }
+            return readAttributes((targets & ON_CLASS) != 0);
+        }
+
+        private boolean readConstantPool() {
+            int count = buffer.getShort() & 0xFFFF;
+            utf8Offsets = new int[count];
+            matches = new boolean[count];
+            boolean any = false;
+            for (int i = 1; i < count; i++) {
+                int tag = buffer.get() & 0xFF;
+                switch (tag) {
+                    case 1: // Utf8
+                        int length = buffer.getShort() & 0xFFFF;
+                        utf8Offsets[i] = buffer.position() - 2;
+                        if (isDescriptor(buffer.position(), length)) {
+                            matches[i] = true;
+                            any = true;
+                        }
+                        buffer.position(buffer.position() + length);
+                        break;
+                    case 7: case 8: case 16: case 19: case 20:
+                        buffer.position(buffer.position() + 2);
+                        break;
+                    case 15:
+                        buffer.position(buffer.position() + 3);
+                        break;
+                    case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18:
+                        buffer.position(buffer.position() + 4);
+                        break;
+                    case 5: case 6:
+                        buffer.position(buffer.position() + 8);
+                        i++; // occupe deux entrées
+                        break;
+                    default:
+                        throw new IllegalArgumentException("tag inconnu " + tag);
+                }
+            }
+            return any;
+        }
+
+        private boolean isDescriptor(int start, int length) {
+            if (length < bare.length || buffer.get(start) != 'L') {
+                return false;
+            }
+            if (length == bare.length && regionEquals(start, bare)) {
+                return true;
+            }
+            return regionEquals(start + length - suffix.length, suffix);
+        }
+
+        private boolean regionEquals(int start, byte[] expected) {
+            for (int i = 0; i < expected.length; i++) {
+                if (buffer.get(start + i) != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isUtf8(int index, byte[] expected) {
+            int offset = utf8Offsets[index];
+            if (offset == 0 || (buffer.getShort(offset) & 0xFFFF) != expected.length) {
+                return false;
+            }
+            return regionEquals(offset + 2, expected);
+        }
+
+        private void skipAttributes() {
+            int count = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < count; i++) {
+                buffer.getShort();
+                // Longueur lue avant de prendre la position : getInt() avance de 4
+                int length = buffer.getInt();
+                buffer.position(buffer.position() + length);
+            }
+        }
+
+        /**
+         * Parcourt une table d'attributs ; vrai si l'on cherche à ce niveau
+         * et que RuntimeVisibleAnnotations contient l'annotation.
+         */
+        private boolean readAttributes(boolean inspect) {
+            boolean found = false;
+            int count = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < count; i++) {
+                int name = buffer.getShort() & 0xFFFF;
+                int length = buffer.getInt();
+                int end = buffer.position() + length;
+                if (inspect && !found && isUtf8(name, RUNTIME_VISIBLE)) {
+                    found = containsAnnotation();
+                }
+                buffer.position(end);
+            }
+            return found;
+        }
+
+        private boolean containsAnnotation() {
+            int count = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < count; i++) {
+                int type = buffer.getShort() & 0xFFFF;
+                if (matches[type]) {
+                    return true;
+                }
+                skipElementValuePairs();
+            }
+            return false;
+        }
+
+        private void skipElementValuePairs() {
+            int pairs = buffer.getShort() & 0xFFFF;
+            for (int i = 0; i < pairs; i++) {
+                buffer.getShort();
+                skipElementValue();
+            }
+        }
+
+        private void skipElementValue() {
+            int tag = buffer.get() & 0xFF;
+            switch (tag) {
+                case 'e':
+                    buffer.position(buffer.position() + 4);
+                    break;
+                case '@':
+                    buffer.getShort();
+                    skipElementValuePairs();
+                    break;
+                case '[':
+                    int values = buffer.getShort() & 0xFFFF;
+                    for (int i = 0; i < values; i++) {
+                        skipElementValue();
+                    }
+                    break;
+                default:
+                    // B C D F I J S Z s c : un index du pool
+                    buffer.position(buffer.position() + 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package itu.sprint.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import itu.sprint.Log;
+
+/**
+ * Parcours parallèle de racines du classpath (répertoires de classes et
+ * JAR) sur un ForkJoinPool : une tâche par racine, puis par sous-répertoire
+ * ou par lot d'entrées de JAR. Les classes retenues (filtrées sur le
+ * bytecode, voir {@link ClassFileAnnotations}) sont regroupées par racine,
+ * avec le temps passé sur chacune. Aucune classe n'est chargée.
+ */
+public final class ClassPathScanner {
+
+    private static final String CLASS_EXTENSION = ".class";
+    // Entrées de JAR traitées par une même tâche
+    private static final int JAR_BATCH = 256;
+
+    private final String annotation;
+    private final int targets;
+    private final String packagePath;
+
+    /**
+     * @param annotation    nom simple de l'annotation recherchée, ou null pour toutes les classes
+     * @param targets       {@link ClassFileAnnotations#ON_CLASS} et/ou {@link ClassFileAnnotations#ON_METHODS}
+     * @param packageName   paquetage à parcourir (sous-paquetages compris), ou null / "" pour tout
+     */
+    public ClassPathScanner(String annotation, int targets, String packageName) {
+        this.annotation = annotation;
+        this.targets = targets;
+        this.packagePath = packageName == null || packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/";
+    }
+
+    /**
+     * Résultat du parcours d'une racine.
+     */
+    public static final class Result {
+        private final Set<String> classNames = ConcurrentHashMap.newKeySet();
+        private volatile long nanos;
+
+        public Set<String> getClassNames() {
+            return classNames;
+        }
+
+        public long getMillis() {
+            return nanos / 1_000_000;
+        }
+    }
+
+    /**
+     * Parcourt les racines en parallèle ; le résultat garde l'ordre des racines.
+     */
+    public Map<File, Result> scan(Collection<File> roots) {
+        Map<File, Result> results = new LinkedHashMap<>();
+        List<RootTask> tasks = new ArrayList<>();
+        for (File root : roots) {
+            if (results.containsKey(root) || !(root.isDirectory() || isJar(root))) {
+                continue;
+            }
+            Result result = new Result();
+            results.put(root, result);
+            tasks.add(new RootTask(root, result));
+        }
+        if (tasks.isEmpty()) {
+            return results;
+        }
+        ForkJoinPool pool = new ForkJoinPool(Math.min(Runtime.getRuntime().availableProcessors(), Math.max(1, tasks.size() * 4)));
+        try {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        } finally {
+            pool.shutdown();
+        }
+        return Collections.unmodifiableMap(results);
+    }
+
+    public static boolean isJar(File file) {
+        return file.isFile() && file.getName().toLowerCase(Locale.ROOT).endsWith(".jar");
+    }
+
+    private boolean accepts(File classFile) {
+        return annotation == null || ClassFileAnnotations.isAnnotated(classFile, annotation, targets);
+    }
+
+    private boolean accepts(JarFile jar, JarEntry entry) throws IOException {
+        if (annotation == null) {
+            return true;
+        }
+        try (InputStream in = jar.getInputStream(entry)) {
+            return ClassFileAnnotations.isAnnotated(in, entry.getSize(), annotation, targets);
+        }
+    }
+
+    private static boolean isClassName(String fileName) {
+        return fileName.endsWith(CLASS_EXTENSION) && !fileName.equals("module-info.class")
+                && !fileName.equals("package-info.class");
+    }
+
+    /**
+     * Une racine : mesure le temps total de son sous-arbre de tâches.
+     */
+    private final class RootTask extends RecursiveAction {
+        private final File root;
+        private final Result result;
+
+        RootTask(File root, Result result) {
+            this.root = root;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            long start = System.nanoTime();
+            try {
+                if (root.isDirectory()) {
+                    File directory = packagePath.isEmpty() ? root : new File(root, packagePath);
+                    new DirectoryTask(directory, packagePath.replace('/', '.'), result).compute();
+                } else {
+                    scanJar();
+                }
+            } catch (IOException | RuntimeException e) {
+                Log.warn("Scan impossible de " + root + " : " + e.getMessage());
+            } finally {
+                result.nanos = System.nanoTime() - start;
+            }
+        }
+
+        private void scanJar() throws IOException {
+            try (JarFile jar = new JarFile(root)) {
+                List<JarEntry> batch = new ArrayList<>(JAR_BATCH);
+                List<JarBatchTask> tasks = new ArrayList<>();
+                for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
+                    JarEntry entry = entries.nextElement();
+                    String name = entry.getName();
+                    if (entry.isDirectory() || !name.startsWith(packagePath) || name.startsWith("META-INF/")
+                            || !isClassName(name.substring(name.lastIndexOf('/') + 1))) {
+                        continue;
+                    }
+                    batch.add(entry);
+                    if (batch.size() == JAR_BATCH) {
+                        tasks.add(new JarBatchTask(jar, batch, result));
+                        batch = new ArrayList<>(JAR_BATCH);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    tasks.add(new JarBatchTask(jar, batch, result));
+                }
+                // Le JAR reste ouvert jusqu'à la fin de tous les lots
+                invokeAll(tasks);
+            }
+        }
+    }
+
+    private final class DirectoryTask extends RecursiveAction {
+        private final File directory;
+        private final String packageName;
+        private final Result result;
+
+        DirectoryTask(File directory, String packageName, Result result) {
+            this.directory = directory;
+            this.packageName = packageName;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            File[] files = directory.listFiles();
+            if (files == null) {
+                return;
+            }
+            List<DirectoryTask> subtasks = new ArrayList<>();
+            for (File file : files) {
+                String name = file.getName();
+                if (file.isDirectory()) {
+                    if (!name.equals("META-INF")) {
+                        subtasks.add(new DirectoryTask(file, packageName + name + ".", result));
+                    }
+                } else if (isClassName(name) && accepts(file)) {
+                    result.classNames.add(packageName + name.substring(0, name.length() - CLASS_EXTENSION.length()));
+                }
+            }
+            invokeAll(subtasks);
+        }
+    }
+
+    private final class JarBatchTask extends RecursiveAction {
+        private final JarFile jar;
+        private final List<JarEntry> entries;
+        private final Result result;
+
+        JarBatchTask(JarFile jar, List<JarEntry> entries, Result result) {
+            this.jar = jar;
+            this.entries = entries;
+            this.result = result;
+        }
+
+        @Override
+        protected void compute() {
+            for (JarEntry entry : entries) {
+                try {
+                    if (accepts(jar, entry)) {
+                        String name = entry.getName();
+                        result.classNames.add(name.substring(0, name.length() - CLASS_EXTENSION.length()).replace('/', '.'));
+                    }
+                } catch (IOException e) {
+                    Log.warn("Entrée illisible " + entry.getName() + " : " + e.getMessage());
+                }
+            }
+        }
+    }
+}
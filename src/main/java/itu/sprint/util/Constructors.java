@@ -0,0 +1,36 @@
+package itu.sprint.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+/**
+ * Recherche du constructeur sans argument, partagée par le conteneur de
+ * contrôleurs, le JSON et la liaison des formulaires.
+ */
+public final class Constructors {
+
+    private Constructors() {
+    }
+
+    /**
+     * Constructeur sans argument sous forme de MethodHandle de type
+     * {@code ()Object}, ou null si la classe n'est pas instanciable
+     * (interface, abstraite, tableau, primitif) ou si le constructeur est
+     * absent ou inaccessible.
+     */
+    public static MethodHandle noArg(Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isArray() || type.isPrimitive()) {
+            return null;
+        }
+        try {
+            Constructor<?> ctor = type.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(ctor).asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
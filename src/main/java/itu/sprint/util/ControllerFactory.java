@@ -0,0 +1,12 @@
+package itu.sprint.util;
+
+/**
+ * Fournit les instances de contrôleurs d'une table de routage.
+ * Toute instance obtenue par {@link #acquire} est rendue par {@link #release}.
+ */
+public interface ControllerFactory {
+
+    Object acquire(Class<?> cls) throws Exception;
+
+    void release(Class<?> cls, Object instance);
+}
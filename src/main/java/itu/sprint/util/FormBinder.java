@@ -0,0 +1,170 @@
+package itu.sprint.util;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import itu.sprint.Log;
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Liaison d'une entité depuis les paramètres de formulaire, préparée au
+ * démarrage pour un paramètre de méthode. Constructeur, setters et table
+ * nom -> setter sont ceux de {@link JSONClassInfo} (champs hérités compris,
+ * hors static/transient) ; seuls les champs dont le type a un convertisseur
+ * depuis une chaîne sont liés. Une requête ne fait aucune introspection ;
+ * un nom de champ inconnu est ignoré sans exception.
+ */
+final class FormBinder {
+
+    // Au-delà, une clé name[i].field est ignorée : borne la taille du tableau alloué
+    static final int MAX_INDEX = 65_535;
+
+    private final JSONClassInfo info;
+    private final JSONClassInfo.FieldSetter[] fields;
+    // Tableau vide du type des éléments : Arrays.copyOf garde ce type en l'agrandissant
+    private final Object[] emptyArray;
+
+    /**
+     * Binder pour ce type, ou null s'il n'est pas instanciable (primitif,
+     * wrapper, interface, pas de constructeur sans argument accessible) :
+     * le paramètre reste alors non lié, sans bloquer le démarrage.
+     */
+    static FormBinder forType(Class<?> type) {
+        if (Constructors.noArg(type) == null) {
+            Log.debug(() -> type.getName() + " non instanciable : pas de liaison depuis un formulaire");
+            return null;
+        }
+        return new FormBinder(type);
+    }
+
+    private FormBinder(Class<?> type) {
+        this.info = JSONClassInfo.of(type);
+        List<JSONClassInfo.FieldSetter> list = new ArrayList<>();
+        for (JSONClassInfo.FieldSetter setter : info.setters()) {
+            if (setter.formConverter != null) {
+                list.add(setter);
+            }
+        }
+        this.fields = list.toArray(new JSONClassInfo.FieldSetter[0]);
+        this.emptyArray = (Object[]) Array.newInstance(type, 0);
+    }
+
+    private Object newInstance() {
+        try {
+            return info.newInstance();
+        } catch (IOException e) {
+            // Le constructeur lui-même a échoué : paramètre non lié, comme un champ invalide
+            Log.debug(() -> e.getMessage() + " : " + e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Entité dont chaque champ reçoit le paramètre du même nom s'il est
+     * présent et non vide.
+     */
+    Object bind(HttpServletRequest req) {
+        Object instance = newInstance();
+        if (instance == null) {
+            return null;
+        }
+        for (JSONClassInfo.FieldSetter field : fields) {
+            String value = req.getParameter(field.name);
+            if (value != null && !value.isEmpty()) {
+                set(field, instance, value);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Tableau d'entités depuis les clés {@code prefixe[index].champ}, en un
+     * seul passage sur les paramètres : l'index est lu chiffre à chiffre et
+     * les éléments rangés dans un tableau agrandi au besoin. Les index
+     * absents restent null ; null si aucune clé ne correspond.
+     *
+     * @param paramName nom du paramètre de méthode, pour le journal
+     */
+    Object[] bindIndexed(HttpServletRequest req, String paramName) {
+        boolean debug = Log.isDebugEnabled();
+        Object[] rows = emptyArray;
+        int length = 0;
+        for (Map.Entry<String, String[]> entry : req.getParameterMap().entrySet()) {
+            String key = entry.getKey();
+            int field = fieldStart(key);
+            if (field < 0) {
+                if (debug && key.indexOf('[') >= 0) {
+                    Log.debug("Paramètre ignoré " + key);
+                }
+                continue;
+            }
+            JSONClassInfo.FieldSetter setter = info.setter(key.substring(field));
+            String[] values = entry.getValue();
+            if (setter == null || setter.formConverter == null || values == null || values.length == 0) {
+                continue;
+            }
+            int index = indexOf(key);
+            if (index >= rows.length) {
+                rows = Arrays.copyOf(rows, Math.max(index + 1, rows.length * 2));
+            }
+            if (rows[index] == null) {
+                Object instance = newInstance();
+                if (instance == null) {
+                    return null;
+                }
+                rows[index] = instance;
+            }
+            set(setter, rows[index], values[0]);
+            length = Math.max(length, index + 1);
+            if (debug) {
+                Log.debug(paramName + "[" + index + "]." + setter.name + " = " + values[0]);
+            }
+        }
+        return length == 0 ? null : Arrays.copyOf(rows, length);
+    }
+
+    /**
+     * Position du nom de champ dans une clé {@code prefixe[index].champ} :
+     * au moins un chiffre entre crochets, index au plus {@link #MAX_INDEX},
+     * puis "]." et un nom non vide ; -1 sinon.
+     */
+    static int fieldStart(String key) {
+        int open = key.indexOf('[');
+        if (open < 0) {
+            return -1;
+        }
+        int i = open + 1;
+        int index = 0;
+        char c;
+        while (i < key.length() && (c = key.charAt(i)) >= '0' && c <= '9' && index <= MAX_INDEX) {
+            index = index * 10 + (c - '0');
+            i++;
+        }
+        if (i == open + 1 || index > MAX_INDEX || i + 2 >= key.length()
+                || key.charAt(i) != ']' || key.charAt(i + 1) != '.') {
+            return -1;
+        }
+        return i + 2;
+    }
+
+    /** Index d'une clé déjà validée par {@link #fieldStart(String)}. */
+    static int indexOf(String key) {
+        int index = 0;
+        for (int i = key.indexOf('[') + 1; key.charAt(i) != ']'; i++) {
+            index = index * 10 + (key.charAt(i) - '0');
+        }
+        return index;
+    }
+
+    private static void set(JSONClassInfo.FieldSetter field, Object target, String value) {
+        try {
+            field.set(target, field.formConverter.apply(value));
+        } catch (IOException e) {
+            Log.debug(() -> e.getMessage() + " : " + e.getCause());
+        }
+    }
+}
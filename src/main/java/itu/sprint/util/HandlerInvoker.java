@@ -0,0 +1,11 @@
+package itu.sprint.util;
+
+/**
+ * Appelle une méthode de contrôleur sur une instance donnée.
+ * Les exceptions levées par le contrôleur remontent telles quelles,
+ * sans être enveloppées dans une InvocationTargetException.
+ */
+@FunctionalInterface
+public interface HandlerInvoker {
+    Object invoke(Object target, Object[] args) throws Throwable;
+}
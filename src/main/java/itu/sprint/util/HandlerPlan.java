@@ -0,0 +1,130 @@
+package itu.sprint.util;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import itu.sprint.annotation.Compression;
+import itu.sprint.annotation.MapURL;
+import itu.sprint.annotation.RestAPI;
+import itu.sprint.mvc.ModelView;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Plan d'invocation immuable d'une méthode de contrôleur, compilé une fois
+ * au scan : méthode HTTP attendue, mode de réponse et un binder par paramètre.
+ * Le traitement d'une requête n'exécute plus que ces binders.
+ */
+public final class HandlerPlan {
+    private final Class<?> controllerClass;
+    private final Method method;
+    private final String httpMethod;
+    private final ResponseMode responseMode;
+    private final Compression compression;
+    private final ParamBinder[] binders;
+    private final HandlerInvoker invoker;
+
+    private HandlerPlan(Class<?> controllerClass, Method method, String httpMethod,
+                        ResponseMode responseMode, Compression compression,
+                        ParamBinder[] binders, HandlerInvoker invoker) {
+        this.controllerClass = controllerClass;
+        this.method = method;
+        this.httpMethod = httpMethod;
+        this.responseMode = responseMode;
+        this.compression = compression;
+        this.binders = binders;
+        this.invoker = invoker;
+    }
+
+    /**
+     * Compile le plan d'une méthode mappée sur le motif donné.
+     */
+    public static HandlerPlan compile(Class<?> cls, Method method, UrlPattern pattern) {
+        String httpMethod = "GET";
+        Compression compression = Compression.DEFAULT;
+        MapURL mapUrl = method.getAnnotation(MapURL.class);
+        if (mapUrl != null) {
+            httpMethod = mapUrl.method();
+            compression = mapUrl.compress();
+        }
+
+        ResponseMode mode;
+        if (method.isAnnotationPresent(RestAPI.class)) {
+            mode = ResponseMode.JSON;
+        } else if (ModelView.class.isAssignableFrom(method.getReturnType())) {
+            mode = ResponseMode.MODEL_VIEW;
+        } else {
+            mode = ResponseMode.TEXT;
+        }
+
+        ParamBinder[] binders = ParamBinders.forParameters(method.getParameters(), pattern, mode == ResponseMode.JSON);
+
+        return new HandlerPlan(cls, method, httpMethod, mode, compression, binders, Invokers.create(method));
+    }
+
+    /**
+     * Construit le tableau d'arguments en exécutant les binders précompilés.
+     */
+    public Object[] bindArgs(HttpServletRequest req, HttpServletResponse resp, RouteMatch match) {
+        Object[] args = new Object[binders.length];
+        for (int i = 0; i < binders.length; i++) {
+            args[i] = binders[i].bind(req, resp, match);
+        }
+        return args;
+    }
+
+    /**
+     * Appelle la méthode du contrôleur ; ses exceptions remontent sans enveloppe.
+     */
+    public Object invoke(Object controllerInstance, Object[] args) throws Exception {
+        try {
+            return invoker.invoke(controllerInstance, args);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+
+    /**
+     * Prépare ce que la première requête calculerait sinon : métadonnées JSON
+     * du type de retour (mode JSON) et des paramètres.
+     */
+    public void warmUp() {
+        if (responseMode == ResponseMode.JSON) {
+            JSONConverter.prepare(method.getGenericReturnType());
+        }
+        for (Type type : method.getGenericParameterTypes()) {
+            JSONConverter.prepare(type);
+        }
+    }
+
+    public boolean accepts(String requestMethod) {
+        return httpMethod.equalsIgnoreCase(requestMethod);
+    }
+
+    public Class<?> getControllerClass() {
+        return controllerClass;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public String getHttpMethod() {
+        return httpMethod;
+    }
+
+    public ResponseMode getResponseMode() {
+        return responseMode;
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    public int getParameterCount() {
+        return binders.length;
+    }
+}
@@ -0,0 +1,74 @@
+package itu.sprint.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Fabrique des HandlerInvoker. Par défaut l'appel passe par un MethodHandle
+ * adapté une fois au démarrage en (Object, Object[]) -> Object, que le JIT
+ * peut inliner ; -Dsprint.invoker=reflection revient à Method.invoke.
+ */
+public final class Invokers {
+    public static final String MODE_PROPERTY = "sprint.invoker";
+    private static final MethodType GENERIC_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private Invokers() {
+    }
+
+    /**
+     * Invoker selon le mode configuré (propriété système sprint.invoker).
+     */
+    public static HandlerInvoker create(Method method) {
+        if ("reflection".equalsIgnoreCase(System.getProperty(MODE_PROPERTY))) {
+            return reflection(method);
+        }
+        return methodHandle(method);
+    }
+
+    public static HandlerInvoker reflection(Method method) {
+        method.setAccessible(true);
+        return (target, args) -> {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    public static HandlerInvoker methodHandle(Method method) {
+        MethodHandle handle;
+        try {
+            method.setAccessible(true);
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            // Module fermé ou accès refusé : on reste sur la réflexion
+            return reflection(method);
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        MethodHandle generic = handle
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(GENERIC_TYPE);
+        return new MethodHandleInvoker(generic);
+    }
+
+    private static final class MethodHandleInvoker implements HandlerInvoker {
+        private final MethodHandle handle;
+
+        MethodHandleInvoker(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public Object invoke(Object target, Object[] args) throws Throwable {
+            return handle.invokeExact(target, args);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package itu.sprint.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * JSONWriter vers un {@link Writer} (ex: response.getWriter()), avec un
+ * tampon de caractères borné vidé dès qu'il est plein.
+ */
+public class JSONCharWriter extends JSONWriter {
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Writer out;
+    private final char[] buffer;
+    private int position;
+
+    public JSONCharWriter(Writer out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    public JSONCharWriter(Writer out, int bufferSize) {
+        this.out = out;
+        this.buffer = new char[bufferSize];
+    }
+
+    @Override
+    protected void writeString(String value) throws IOException {
+        writeRaw('"');
+        writeRaw(JSONConverter.escapeJSON(value));
+        writeRaw('"');
+    }
+
+    @Override
+    protected void writeRaw(char c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = c;
+    }
+
+    @Override
+    protected void writeRaw(String s) throws IOException {
+        int offset = 0;
+        int remaining = s.length();
+        while (remaining > 0) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            int count = Math.min(remaining, buffer.length - position);
+            s.getChars(offset, offset + count, buffer, position);
+            position += count;
+            offset += count;
+            remaining -= count;
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+}
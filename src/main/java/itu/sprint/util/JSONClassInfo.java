@@ -0,0 +1,253 @@
+package itu.sprint.util;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Métadonnées JSON d'une classe, calculées une seule fois par classe
+ * (cache ClassValue) : champs ordonnés, hérités compris, sans les champs
+ * static/transient, avec leur préfixe "nom": déjà échappé et un lecteur
+ * spécialisé par type primitif ; pour la lecture (JSONParser), le
+ * constructeur sans argument et une table nom -> setter. La liaison des
+ * formulaires ({@link FormBinder}) s'appuie sur les mêmes setters, munis
+ * d'un convertisseur depuis la chaîne reçue.
+ */
+final class JSONClassInfo {
+
+    private static final ClassValue<JSONClassInfo> CACHE = new ClassValue<>() {
+        @Override
+        protected JSONClassInfo computeValue(Class<?> type) {
+            return new JSONClassInfo(type);
+        }
+    };
+
+    private final FieldWriter[] fields;
+    private final Map<String, FieldSetter> setters;
+    private final MethodHandle constructor;
+
+    private JSONClassInfo(Class<?> type) {
+        // Champs des superclasses d'abord ; un champ redéclaré garde sa position
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c);
+        }
+        Map<String, Field> byName = new LinkedHashMap<>();
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                byName.put(field.getName(), field);
+            }
+        }
+        List<FieldWriter> writers = new ArrayList<>();
+        Map<String, FieldSetter> setterMap = new HashMap<>();
+        for (Field field : byName.values()) {
+            FieldWriter writer = FieldWriter.create(field);
+            if (writer != null) {
+                writers.add(writer);
+            }
+            FieldSetter setter = FieldSetter.create(field);
+            if (setter != null) {
+                setterMap.put(field.getName(), setter);
+            }
+        }
+        this.fields = writers.toArray(new FieldWriter[0]);
+        this.setters = setterMap;
+        this.constructor = Constructors.noArg(type);
+    }
+
+    static JSONClassInfo of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    FieldWriter[] fields() {
+        return fields;
+    }
+
+    FieldSetter setter(String name) {
+        return setters.get(name);
+    }
+
+    Collection<FieldSetter> setters() {
+        return setters.values();
+    }
+
+    boolean isInstantiable() {
+        return constructor != null;
+    }
+
+    Object newInstance() throws IOException {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (Throwable t) {
+            throw new IOException("Instanciation impossible", t);
+        }
+    }
+
+    /**
+     * Affecte un champ depuis une valeur déjà convertie à son type.
+     */
+    static final class FieldSetter {
+        final String name;
+        final Type type;
+        final boolean primitive;
+        // String -> type du champ pour les formulaires ; null si le type n'en a pas
+        final Function<String, Object> formConverter;
+        private final MethodHandle setter;
+
+        private FieldSetter(Field field, MethodHandle setter) {
+            this.name = field.getName();
+            this.type = field.getGenericType();
+            this.primitive = field.getType().isPrimitive();
+            this.formConverter = ParamBinders.isConvertible(field.getType())
+                    ? ParamBinders.converterFor(field.getType()) : null;
+            this.setter = setter;
+        }
+
+        static FieldSetter create(Field field) {
+            try {
+                field.setAccessible(true);
+                MethodHandle setter = MethodHandles.lookup().unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                return new FieldSetter(field, setter);
+            } catch (IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        void set(Object target, Object value) throws IOException {
+            if (value == null && primitive) {
+                return;
+            }
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IOException("Affectation impossible du champ " + name, t);
+            }
+        }
+    }
+
+    /**
+     * Écrit un champ d'un objet : préfixe "nom": puis valeur.
+     */
+    abstract static class FieldWriter {
+        final String name;
+        final String prefix;
+        final byte[] prefixUtf8;
+        final MethodHandle getter;
+
+        FieldWriter(Field field, MethodHandle getter) {
+            this.name = field.getName();
+            this.prefix = "\"" + JSONConverter.escapeJSON(name) + "\":";
+            this.prefixUtf8 = prefix.getBytes(StandardCharsets.UTF_8);
+            this.getter = getter;
+        }
+
+        /**
+         * Lecteur adapté au type du champ, ou null si le champ est inaccessible
+         * (classe d'un module fermé, par exemple).
+         */
+        static FieldWriter create(Field field) {
+            MethodHandle getter;
+            try {
+                field.setAccessible(true);
+                getter = MethodHandles.lookup().unreflectGetter(field);
+            } catch (IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+            Class<?> type = field.getType();
+            if (type == int.class) {
+                return new IntField(field, getter.asType(MethodType.methodType(int.class, Object.class)));
+            } else if (type == long.class) {
+                return new LongField(field, getter.asType(MethodType.methodType(long.class, Object.class)));
+            } else if (type == double.class) {
+                return new DoubleField(field, getter.asType(MethodType.methodType(double.class, Object.class)));
+            } else if (type == boolean.class) {
+                return new BooleanField(field, getter.asType(MethodType.methodType(boolean.class, Object.class)));
+            }
+            return new ObjectField(field, getter.asType(MethodType.methodType(Object.class, Object.class)));
+        }
+
+        abstract void write(JSONWriter writer, Object target) throws Throwable;
+
+        final void writeField(JSONWriter writer, Object target) throws IOException {
+            try {
+                write(writer, target);
+            } catch (IOException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IOException("Champ illisible : " + name, t);
+            }
+        }
+    }
+
+    private static final class IntField extends FieldWriter {
+        IntField(Field field, MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void write(JSONWriter writer, Object target) throws Throwable {
+            writer.writeInt((int) getter.invokeExact(target));
+        }
+    }
+
+    private static final class LongField extends FieldWriter {
+        LongField(Field field, MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void write(JSONWriter writer, Object target) throws Throwable {
+            writer.writeLong((long) getter.invokeExact(target));
+        }
+    }
+
+    private static final class DoubleField extends FieldWriter {
+        DoubleField(Field field, MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void write(JSONWriter writer, Object target) throws Throwable {
+            writer.writeDouble((double) getter.invokeExact(target));
+        }
+    }
+
+    private static final class BooleanField extends FieldWriter {
+        BooleanField(Field field, MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void write(JSONWriter writer, Object target) throws Throwable {
+            writer.writeBoolean((boolean) getter.invokeExact(target));
+        }
+    }
+
+    private static final class ObjectField extends FieldWriter {
+        ObjectField(Field field, MethodHandle getter) {
+            super(field, getter);
+        }
+
+        @Override
+        void write(JSONWriter writer, Object target) throws Throwable {
+            writer.writeValue((Object) getter.invokeExact(target));
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package itu.sprint.util;
 
-import java.lang.reflect.Array;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.reflect.Field;
-import java.util.Collection;
-import java.util.Date;
-import java.util.Map;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.HashSet;
+import java.util.Set;
 
 public class JSONConverter {
     
@@ -12,146 +19,121 @@ public class JSONConverter {
      * Convertit un objet ou un tableau d'objets en JSON
      */
     public static String toJSON(Object obj) throws Exception {
-        if (obj == null) {
-            return "null";
-        }
-        
-        // Si c'est un tableau
-        if (obj.getClass().isArray()) {
-            return arrayToJSON(obj);
-        }
-        
-        // Si c'est une Collection (List, Set, etc.)
-        if (obj instanceof Collection) {
-            return collectionToJSON((Collection<?>) obj);
-        }
-        
-        // Si c'est un objet simple
-        return objectToJSON(obj);
+        StringWriter out = new StringWriter();
+        writeJSON(obj, out);
+        return out.toString();
     }
-    
+
     /**
-     * Convertit un tableau en JSON
+     * Écrit le JSON d'un objet directement dans le Writer, en flux :
+     * aucune String n'est construite pour la réponse complète.
      */
-    private static String arrayToJSON(Object array) throws Exception {
-        StringBuilder json = new StringBuilder("[");
-        int length = Array.getLength(array);
-        
-        for (int i = 0; i < length; i++) {
-            if (i > 0) {
-                json.append(",");
-            }
-            Object element = Array.get(array, i);
-            json.append(toJSON(element));
-        }
-        
-        json.append("]");
-        return json.toString();
+    public static void writeJSON(Object obj, Writer out) throws IOException {
+        JSONWriter writer = new JSONCharWriter(out);
+        writer.writeValue(obj);
+        writer.flush();
     }
     
     /**
-     * Convertit une Collection en JSON
+     * Écrit le JSON d'un objet en octets UTF-8 directement dans le flux,
+     * via un tampon réutilisé par thread.
      */
-    private static String collectionToJSON(Collection<?> collection) throws Exception {
-        StringBuilder json = new StringBuilder("[");
-        boolean first = true;
-        
-        for (Object element : collection) {
-            if (!first) {
-                json.append(",");
-            }
-            json.append(toJSON(element));
-            first = false;
+    public static void writeJSON(Object obj, OutputStream out) throws IOException {
+        JSONUtf8Writer writer = new JSONUtf8Writer(out);
+        try {
+            writer.writeValue(obj);
+            writer.flush();
+        } finally {
+            writer.release();
         }
-        
-        json.append("]");
-        return json.toString();
     }
-    
+
     /**
-     * Convertit un objet en JSON
+     * Calcule à l'avance les métadonnées JSON d'un type, de ses arguments
+     * génériques, de ses éléments de tableau et des types de ses champs,
+     * pour que la première requête n'en paie pas l'introspection.
      */
-    private static String objectToJSON(Object obj) throws Exception {
-        if (obj == null) {
-            return "null";
-        }
-        
-        // Types primitifs et String
-        if (obj instanceof String) {
-            return "\"" + escapeJSON(obj.toString()) + "\"";
-        }
-        if (obj instanceof Number) {
-            return obj.toString();
-        }
-        if (obj instanceof Boolean) {
-            return obj.toString();
-        }
-        if (obj instanceof Character) {
-            return "\"" + escapeJSON(obj.toString()) + "\"";
-        }
-        if (obj instanceof Date) {
-            return "\"" + obj.toString() + "\"";
-        }
-        
-        // Si c'est une Map
-        if (obj instanceof Map) {
-            return mapToJSON((Map<?, ?>) obj);
-        }
-        
-        // Objet complexe avec des champs
-        StringBuilder json = new StringBuilder("{");
-        Class<?> clazz = obj.getClass();
-        Field[] fields = clazz.getDeclaredFields();
-        boolean first = true;
-        
-        for (Field field : fields) {
-            field.setAccessible(true);
-            Object value = field.get(obj);
-            
-            if (!first) {
-                json.append(",");
-            }
-            
-            json.append("\"").append(field.getName()).append("\":");
-            json.append(toJSON(value));
-            first = false;
-        }
-        
-        json.append("}");
-        return json.toString();
+    public static void prepare(Type type) {
+        prepare(type, new HashSet<>());
     }
-    
-    /**
-     * Convertit une Map en JSON
-     */
-    private static String mapToJSON(Map<?, ?> map) throws Exception {
-        StringBuilder json = new StringBuilder("{");
-        boolean first = true;
-        
-        for (Map.Entry<?, ?> entry : map.entrySet()) {
-            if (!first) {
-                json.append(",");
+
+    private static void prepare(Type type, Set<Class<?>> seen) {
+        if (type instanceof ParameterizedType) {
+            for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                prepare(argument, seen);
+            }
+            prepare(((ParameterizedType) type).getRawType(), seen);
+        } else if (type instanceof GenericArrayType) {
+            prepare(((GenericArrayType) type).getGenericComponentType(), seen);
+        } else if (type instanceof WildcardType) {
+            for (Type bound : ((WildcardType) type).getUpperBounds()) {
+                prepare(bound, seen);
+            }
+        } else if (type instanceof Class) {
+            Class<?> cls = (Class<?>) type;
+            while (cls.isArray()) {
+                cls = cls.getComponentType();
+            }
+            if (cls.isPrimitive() || cls.isEnum() || cls.isInterface() || isPlatformClass(cls) || !seen.add(cls)) {
+                return;
+            }
+            JSONClassInfo.of(cls);
+            for (Class<?> c = cls; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        prepare(field.getGenericType(), seen);
+                    }
+                }
             }
-            json.append("\"").append(entry.getKey().toString()).append("\":");
-            json.append(toJSON(entry.getValue()));
-            first = false;
         }
-        
-        json.append("}");
-        return json.toString();
     }
-    
+
+    private static boolean isPlatformClass(Class<?> cls) {
+        String name = cls.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jakarta.");
+    }
+
     /**
-     * Échappe les caractères spéciaux pour JSON
+     * Échappe les caractères spéciaux pour JSON, caractères de contrôle compris.
+     * Une seule passe ; la chaîne n'est copiée que si elle contient un
+     * caractère à échapper.
      */
-    private static String escapeJSON(String str) {
+    static String escapeJSON(String str) {
         if (str == null) {
             return "";
         }
-        return str.replace("\\", "\\\\")
-                  .replace("\"", "\\\"")
-                  .replace("\n", "\\n")
-                  .replace("\r", "\\r")
-                  .replace("\t", "\\t");
+        int length = str.length();
+        int i = 0;
+        while (i < length && !needsEscape(str.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return str;
+        }
+        StringBuilder sb = new StringBuilder(length + 16);
+        sb.append(str, 0, i);
+        for (; i < length; i++) {
+            char c = str.charAt(i);
+            switch (c) {
+                case '"': sb.append("\\\""); break;
+                case '\\': sb.append("\\\\"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\b': sb.append("\\b"); break;
+                case '\f': sb.append("\\f"); break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean needsEscape(char c) {
+        return c < 0x20 || c == '"' || c == '\\';
     }
 }
@@ -0,0 +1,408 @@
+package itu.sprint.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lecteur JSON en flux, pendant de JSONConverter : lit le texte depuis un
+ * Reader et remplit directement l'objet cible (entité, tableau, List<T>,
+ * Map, types simples) sans construire d'arbre intermédiaire. Les entités
+ * sont remplies via les métadonnées partagées JSONClassInfo ; les clés
+ * inconnues sont ignorées.
+ */
+public final class JSONParser {
+    private static final int BUFFER_SIZE = 4096;
+    // Au-delà, le corps est rejeté : la lecture récursive ne doit pas épuiser la pile
+    static final int MAX_DEPTH = 512;
+
+    private final Reader in;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private long consumed;
+    private int depth;
+    private final StringBuilder scratch = new StringBuilder();
+
+    private JSONParser(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * Lit une valeur JSON du flux et la convertit vers le type demandé
+     * (Class ou type générique, ex: List&lt;Person&gt;).
+     */
+    public static Object parse(Reader in, Type type) throws IOException {
+        JSONParser parser = new JSONParser(in);
+        Object value = parser.readValue(type);
+        if (parser.skipWhitespace() != -1) {
+            throw parser.error("contenu inattendu après la valeur");
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T parse(String json, Class<T> type) throws IOException {
+        return (T) parse(new StringReader(json), type);
+    }
+
+    // ------------------------------------------------------------------
+    // Lecture du flux
+    // ------------------------------------------------------------------
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            consumed += limit;
+            limit = in.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position];
+    }
+
+    private int next() throws IOException {
+        int c = peek();
+        if (c != -1) {
+            position++;
+        }
+        return c;
+    }
+
+    private int skipWhitespace() throws IOException {
+        int c = peek();
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            position++;
+            c = peek();
+        }
+        return c;
+    }
+
+    private void expect(char expected) throws IOException {
+        if (skipWhitespace() != expected) {
+            throw error("'" + expected + "' attendu");
+        }
+        position++;
+    }
+
+    private void expectLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (next() != literal.charAt(i)) {
+                throw error("'" + literal + "' attendu");
+            }
+        }
+    }
+
+    private IOException error(String message) {
+        return new IOException("JSON invalide (position " + (consumed + position) + ") : " + message);
+    }
+
+    // ------------------------------------------------------------------
+    // Valeurs
+    // ------------------------------------------------------------------
+
+    private Object readValue(Type type) throws IOException {
+        Class<?> raw = rawClass(type);
+        int c = skipWhitespace();
+        switch (c) {
+            case '{':
+                position++;
+                enter();
+                Object object = Map.class.isAssignableFrom(raw) || raw == Object.class
+                        ? readMap(typeArgument(type, 1)) : readObject(raw);
+                depth--;
+                return object;
+            case '[':
+                position++;
+                enter();
+                Object elements = readList(type, raw);
+                depth--;
+                return elements;
+            case '"':
+                position++;
+                return convertString(readString(), raw);
+            case 't':
+                expectLiteral("true");
+                return raw == String.class ? "true" : Boolean.TRUE;
+            case 'f':
+                expectLiteral("false");
+                return raw == String.class ? "false" : Boolean.FALSE;
+            case 'n':
+                expectLiteral("null");
+                return null;
+            case -1:
+                throw error("fin de flux inattendue");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return convertNumber(readNumber(), raw);
+                }
+                throw error("caractère inattendu '" + (char) c + "'");
+        }
+    }
+
+    private void enter() throws IOException {
+        if (++depth > MAX_DEPTH) {
+            throw error("imbrication au-delà de " + MAX_DEPTH + " niveaux");
+        }
+    }
+
+    private Object readList(Type type, Class<?> raw) throws IOException {
+        if (raw.isArray()) {
+            return readArray(componentType(type));
+        }
+        if (Collection.class.isAssignableFrom(raw) || raw == Object.class) {
+            Collection<Object> target = Set.class.isAssignableFrom(raw) ? new LinkedHashSet<>() : new ArrayList<>();
+            readElements(typeArgument(type, 0), target);
+            return target;
+        }
+        readElements(Object.class, new ArrayList<>());
+        return null;
+    }
+
+    private Object readObject(Class<?> raw) throws IOException {
+        JSONClassInfo info = JSONClassInfo.of(raw);
+        Object instance = info.isInstantiable() ? info.newInstance() : null;
+        if (skipWhitespace() == '}') {
+            position++;
+            return instance;
+        }
+        while (true) {
+            expect('"');
+            String name = readString();
+            expect(':');
+            JSONClassInfo.FieldSetter setter = instance != null ? info.setter(name) : null;
+            if (setter != null) {
+                setter.set(instance, readValue(setter.type));
+            } else {
+                readValue(Object.class);
+            }
+            if (!readSeparator('}')) {
+                return instance;
+            }
+        }
+    }
+
+    private Map<String, Object> readMap(Type valueType) throws IOException {
+        Map<String, Object> map = new LinkedHashMap<>();
+        if (skipWhitespace() == '}') {
+            position++;
+            return map;
+        }
+        while (true) {
+            expect('"');
+            String key = readString();
+            expect(':');
+            map.put(key, readValue(valueType));
+            if (!readSeparator('}')) {
+                return map;
+            }
+        }
+    }
+
+    private Object readArray(Type componentType) throws IOException {
+        List<Object> values = new ArrayList<>();
+        readElements(componentType, values);
+        Class<?> component = rawClass(componentType);
+        Object array = Array.newInstance(component, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value != null || !component.isPrimitive()) {
+                Array.set(array, i, value);
+            }
+        }
+        return array;
+    }
+
+    private void readElements(Type elementType, Collection<Object> target) throws IOException {
+        if (skipWhitespace() == ']') {
+            position++;
+            return;
+        }
+        while (true) {
+            target.add(readValue(elementType));
+            if (!readSeparator(']')) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Lit ',' (retourne true, un élément suit) ou le caractère fermant (retourne false).
+     */
+    private boolean readSeparator(char closing) throws IOException {
+        int c = skipWhitespace();
+        position++;
+        if (c == ',') {
+            return true;
+        }
+        if (c == closing) {
+            return false;
+        }
+        throw error("',' ou '" + closing + "' attendu");
+    }
+
+    private String readString() throws IOException {
+        scratch.setLength(0);
+        while (true) {
+            int c = next();
+            if (c == '"') {
+                return scratch.toString();
+            }
+            if (c == -1) {
+                throw error("chaîne non terminée");
+            }
+            if (c != '\\') {
+                scratch.append((char) c);
+                continue;
+            }
+            int escaped = next();
+            switch (escaped) {
+                case '"': scratch.append('"'); break;
+                case '\\': scratch.append('\\'); break;
+                case '/': scratch.append('/'); break;
+                case 'b': scratch.append('\b'); break;
+                case 'f': scratch.append('\f'); break;
+                case 'n': scratch.append('\n'); break;
+                case 'r': scratch.append('\r'); break;
+                case 't': scratch.append('\t'); break;
+                case 'u':
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(next(), 16);
+                        if (digit < 0) {
+                            throw error("séquence \\u invalide");
+                        }
+                        code = (code << 4) | digit;
+                    }
+                    scratch.append((char) code);
+                    break;
+                default:
+                    throw error("échappement invalide");
+            }
+        }
+    }
+
+    private String readNumber() throws IOException {
+        scratch.setLength(0);
+        int c = peek();
+        while (c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E' || (c >= '0' && c <= '9')) {
+            scratch.append((char) c);
+            position++;
+            c = peek();
+        }
+        return scratch.toString();
+    }
+
+    // ------------------------------------------------------------------
+    // Conversions vers le type cible
+    // ------------------------------------------------------------------
+
+    private Object convertNumber(String token, Class<?> raw) throws IOException {
+        try {
+            if (raw == String.class) {
+                return token;
+            }
+            if (raw == BigDecimal.class) {
+                return new BigDecimal(token);
+            }
+            if (raw == BigInteger.class) {
+                return new BigDecimal(token).toBigInteger();
+            }
+            boolean integral = token.indexOf('.') < 0 && token.indexOf('e') < 0 && token.indexOf('E') < 0;
+            if (raw == double.class || raw == Double.class) {
+                return Double.parseDouble(token);
+            }
+            if (raw == float.class || raw == Float.class) {
+                return Float.parseFloat(token);
+            }
+            long value = integral ? Long.parseLong(token) : (long) Double.parseDouble(token);
+            if (raw == int.class || raw == Integer.class) {
+                return (int) value;
+            }
+            if (raw == long.class || raw == Long.class) {
+                return value;
+            }
+            if (raw == short.class || raw == Short.class) {
+                return (short) value;
+            }
+            if (raw == byte.class || raw == Byte.class) {
+                return (byte) value;
+            }
+            // Object ou Number : Long pour un entier, Double sinon
+            return integral ? (Object) value : (Object) Double.parseDouble(token);
+        } catch (NumberFormatException e) {
+            throw error("nombre invalide '" + token + "'");
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convertString(String value, Class<?> raw) {
+        if (raw == String.class || raw == Object.class || raw == CharSequence.class) {
+            return value;
+        }
+        if ((raw == char.class || raw == Character.class) && value.length() == 1) {
+            return value.charAt(0);
+        }
+        if (raw.isEnum()) {
+            try {
+                return Enum.valueOf((Class<? extends Enum>) raw, value);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return ParamBinders.convertValue(value, raw);
+    }
+
+    // ------------------------------------------------------------------
+    // Types génériques
+    // ------------------------------------------------------------------
+
+    private static Class<?> rawClass(Type type) {
+        if (type instanceof Class) {
+            return (Class<?>) type;
+        }
+        if (type instanceof ParameterizedType) {
+            return rawClass(((ParameterizedType) type).getRawType());
+        }
+        if (type instanceof GenericArrayType) {
+            return Array.newInstance(rawClass(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+        }
+        if (type instanceof WildcardType) {
+            return rawClass(((WildcardType) type).getUpperBounds()[0]);
+        }
+        return Object.class;
+    }
+
+    private static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type[] args = ((ParameterizedType) type).getActualTypeArguments();
+            if (index < args.length) {
+                return args[index];
+            }
+        }
+        return Object.class;
+    }
+
+    private static Type componentType(Type type) {
+        if (type instanceof GenericArrayType) {
+            return ((GenericArrayType) type).getGenericComponentType();
+        }
+        return rawClass(type).getComponentType();
+    }
+}
@@ -0,0 +1,224 @@
+package itu.sprint.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * JSONWriter qui encode directement en octets UTF-8 dans un tampon réutilisé
+ * par thread, puis l'envoie vers un OutputStream (ex: response.getOutputStream()).
+ * Pas de String intermédiaire ni d'encodeur de charset ; les int, long et
+ * boolean sont écrits chiffre par chiffre sans allocation.
+ */
+public class JSONUtf8Writer extends JSONWriter {
+    public static final int BUFFER_SIZE = 8192;
+
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<>();
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] LONG_MIN = Long.toString(Long.MIN_VALUE).getBytes();
+    // Au-delà, Double.toString passe en notation scientifique
+    private static final double PLAIN_DOUBLE_LIMIT = 1e7;
+
+    private final OutputStream out;
+    private byte[] buffer;
+    private int position;
+
+    public JSONUtf8Writer(OutputStream out) {
+        this.out = out;
+        byte[] cached = BUFFERS.get();
+        if (cached != null) {
+            BUFFERS.set(null);
+            this.buffer = cached;
+        } else {
+            this.buffer = new byte[BUFFER_SIZE];
+        }
+    }
+
+    /**
+     * Rend le tampon au thread courant ; le writer n'est plus utilisable ensuite.
+     */
+    public void release() {
+        if (buffer != null) {
+            BUFFERS.set(buffer);
+            buffer = null;
+        }
+    }
+
+    private void ensure(int count) throws IOException {
+        if (position + count > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+
+    @Override
+    protected void writeRaw(char c) throws IOException {
+        if (c < 0x80) {
+            ensure(1);
+            buffer[position++] = (byte) c;
+        } else {
+            writeRaw(String.valueOf(c));
+        }
+    }
+
+    @Override
+    protected void writeRaw(String s) throws IOException {
+        int length = s.length();
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                ensure(1);
+                buffer[position++] = (byte) c;
+            } else {
+                i = writeUtf8(s, i, c);
+            }
+        }
+    }
+
+    private void writeRaw(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length) {
+            flushBuffer();
+            out.write(bytes);
+            return;
+        }
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    @Override
+    protected void writeFieldPrefix(JSONClassInfo.FieldWriter field) throws IOException {
+        writeRaw(field.prefixUtf8);
+    }
+
+    /**
+     * Échappement et encodage en une seule passe sur la chaîne.
+     */
+    @Override
+    protected void writeString(String value) throws IOException {
+        ensure(1);
+        buffer[position++] = '"';
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                ensure(1);
+                buffer[position++] = (byte) c;
+            } else if (c < 0x80) {
+                writeEscape(c);
+            } else {
+                i = writeUtf8(value, i, c);
+            }
+        }
+        ensure(1);
+        buffer[position++] = '"';
+    }
+
+    private void writeEscape(char c) throws IOException {
+        ensure(6);
+        buffer[position++] = '\\';
+        switch (c) {
+            case '"': buffer[position++] = '"'; break;
+            case '\\': buffer[position++] = '\\'; break;
+            case '\n': buffer[position++] = 'n'; break;
+            case '\r': buffer[position++] = 'r'; break;
+            case '\t': buffer[position++] = 't'; break;
+            case '\b': buffer[position++] = 'b'; break;
+            case '\f': buffer[position++] = 'f'; break;
+            default:
+                buffer[position++] = 'u';
+                buffer[position++] = '0';
+                buffer[position++] = '0';
+                buffer[position++] = HEX[c >> 4];
+                buffer[position++] = HEX[c & 0xF];
+        }
+    }
+
+    /**
+     * Encode le caractère non ASCII à l'indice i ; retourne le dernier indice consommé
+     * (i + 1 pour une paire de surrogates).
+     */
+    private int writeUtf8(String s, int i, char c) throws IOException {
+        ensure(4);
+        if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && i + 1 < s.length() && Character.isLowSurrogate(s.charAt(i + 1))) {
+            int cp = Character.toCodePoint(c, s.charAt(i + 1));
+            buffer[position++] = (byte) (0xF0 | (cp >> 18));
+            buffer[position++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+            buffer[position++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (cp & 0x3F));
+            return i + 1;
+        } else if (Character.isSurrogate(c)) {
+            // Surrogate isolé : invalide en UTF-8, remplacé par '?'
+            buffer[position++] = '?';
+        } else {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return i;
+    }
+
+    @Override
+    protected void writeInt(int value) throws IOException {
+        writeLong(value);
+    }
+
+    @Override
+    protected void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            writeRaw(LONG_MIN);
+            return;
+        }
+        ensure(20);
+        if (value < 0) {
+            buffer[position++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int p = end - 1; p >= position; p--) {
+            buffer[p] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        position = end;
+    }
+
+    /**
+     * Valeurs entières courantes écrites sans allocation (même rendu que
+     * Double.toString, ex: 3.0) ; les autres passent par Double.toString.
+     */
+    @Override
+    protected void writeDouble(double value) throws IOException {
+        if (value == Math.rint(value) && Math.abs(value) < PLAIN_DOUBLE_LIMIT
+                && (value != 0 || 1 / value > 0)) {
+            writeLong((long) value);
+            ensure(2);
+            buffer[position++] = '.';
+            buffer[position++] = '0';
+        } else {
+            writeRaw(Double.toString(value));
+        }
+    }
+
+    @Override
+    protected void writeBoolean(boolean value) throws IOException {
+        writeRaw(value ? TRUE : FALSE);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+}
@@ -0,0 +1,140 @@
+package itu.sprint.util;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Sérialiseur JSON en flux : parcourt le graphe d'objets et écrit au fur et
+ * à mesure dans une sortie tamponnée de taille fixe, sans construire de
+ * String intermédiaire. La mémoire utilisée ne dépend pas de la taille de
+ * la réponse. Les sous-classes fournissent la sortie bas niveau.
+ */
+public abstract class JSONWriter implements Flushable {
+
+    /**
+     * Écrit la représentation JSON d'un objet, d'un tableau ou d'une Collection.
+     */
+    public void writeValue(Object obj) throws IOException {
+        if (obj == null) {
+            writeRaw("null");
+        } else if (obj instanceof String) {
+            writeString((String) obj);
+        } else if (obj instanceof Integer) {
+            writeInt((Integer) obj);
+        } else if (obj instanceof Long) {
+            writeLong((Long) obj);
+        } else if (obj instanceof Double) {
+            writeDouble((Double) obj);
+        } else if (obj instanceof Boolean) {
+            writeBoolean((Boolean) obj);
+        } else if (obj instanceof Number) {
+            writeRaw(obj.toString());
+        } else if (obj instanceof Character || obj instanceof Date) {
+            writeString(obj.toString());
+        } else if (obj.getClass().isArray()) {
+            writeArray(obj);
+        } else if (obj instanceof Collection) {
+            writeCollection((Collection<?>) obj);
+        } else if (obj instanceof Map) {
+            writeMap((Map<?, ?>) obj);
+        } else {
+            writeObject(obj);
+        }
+    }
+
+    private void writeArray(Object array) throws IOException {
+        writeRaw('[');
+        int length = Array.getLength(array);
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                writeRaw(',');
+            }
+            writeValue(Array.get(array, i));
+        }
+        writeRaw(']');
+    }
+
+    private void writeCollection(Collection<?> collection) throws IOException {
+        writeRaw('[');
+        boolean first = true;
+        for (Object element : collection) {
+            if (!first) {
+                writeRaw(',');
+            }
+            writeValue(element);
+            first = false;
+        }
+        writeRaw(']');
+    }
+
+    private void writeMap(Map<?, ?> map) throws IOException {
+        writeRaw('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                writeRaw(',');
+            }
+            writeString(String.valueOf(entry.getKey()));
+            writeRaw(':');
+            writeValue(entry.getValue());
+            first = false;
+        }
+        writeRaw('}');
+    }
+
+    private void writeObject(Object obj) throws IOException {
+        // Réflexion faite une fois par classe, pas une fois par objet
+        JSONClassInfo.FieldWriter[] fields = JSONClassInfo.of(obj.getClass()).fields();
+        writeRaw('{');
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writeRaw(',');
+            }
+            writeFieldPrefix(fields[i]);
+            fields[i].writeField(this, obj);
+        }
+        writeRaw('}');
+    }
+
+    /**
+     * Écrit le préfixe "nom": d'un champ, précalculé dans JSONClassInfo.
+     */
+    protected void writeFieldPrefix(JSONClassInfo.FieldWriter field) throws IOException {
+        writeRaw(field.prefix);
+    }
+
+    protected void writeInt(int value) throws IOException {
+        writeRaw(Integer.toString(value));
+    }
+
+    protected void writeLong(long value) throws IOException {
+        writeRaw(Long.toString(value));
+    }
+
+    protected void writeDouble(double value) throws IOException {
+        writeRaw(Double.toString(value));
+    }
+
+    protected void writeBoolean(boolean value) throws IOException {
+        writeRaw(value ? "true" : "false");
+    }
+
+    /**
+     * Écrit une chaîne JSON entre guillemets, caractères spéciaux échappés.
+     */
+    protected abstract void writeString(String value) throws IOException;
+
+    protected abstract void writeRaw(char c) throws IOException;
+
+    protected abstract void writeRaw(String s) throws IOException;
+
+    /**
+     * Vide le tampon interne vers la sortie sous-jacente.
+     */
+    @Override
+    public abstract void flush() throws IOException;
+}
@@ -0,0 +1,122 @@
+package itu.sprint.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme de durées en nanosecondes, sans verrou, à la manière de
+ * HdrHistogram : classes log-linéaires (16 sous-classes par puissance de
+ * deux, soit une erreur relative d'au plus 1/16) de 0 à ~18 minutes.
+ * L'enregistrement coûte un incrément atomique ; la lecture parcourt les
+ * classes (quelques centaines) et peut voir un enregistrement en cours.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_COUNT = 1 << SUB_BITS;         // 32 : valeurs exactes sous 32 ns
+    private static final int HALF = SUB_COUNT >> 1;             // 16 sous-classes par octave ensuite
+    private static final int MAX_EXPONENT = 40;                  // 2^40 ns ≈ 18 min
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * HALF + HALF;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_VALUE));
+        counts.incrementAndGet(indexOf(value));
+        sum.add(value);
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // un autre thread a relevé le maximum : on recompare
+        }
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - (SUB_BITS - 1);
+        return shift * HALF + (int) (value >>> shift);
+    }
+
+    /** Plus grande valeur rangée dans la classe. */
+    static long upperBound(int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        int shift = index / HALF - 1;
+        long mantissa = index % HALF + HALF;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    public long getSumNanos() {
+        return sum.sum();
+    }
+
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Valeur sous laquelle se trouvent {@code percentile} % des mesures
+     * (borne haute de la classe, sans dépasser le maximum observé) ; 0 si vide.
+     */
+    public long valueAtPercentile(double percentile) {
+        long[] snapshot = snapshot();
+        long total = 0;
+        for (long count : snapshot) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(upperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Nombre cumulé de mesures inférieures ou égales à chaque borne
+     * (bornes croissantes, en nanosecondes) ; une mesure est comptée sous
+     * une borne si toute sa classe y est.
+     */
+    public long[] cumulativeCounts(long[] boundsNanos) {
+        long[] snapshot = snapshot();
+        long[] result = new long[boundsNanos.length];
+        long seen = 0;
+        int bucket = 0;
+        for (int b = 0; b < boundsNanos.length; b++) {
+            while (bucket < snapshot.length && upperBound(bucket) <= boundsNanos[b]) {
+                seen += snapshot[bucket++];
+            }
+            result[b] = seen;
+        }
+        return result;
+    }
+
+    private long[] snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,14 @@
+package itu.sprint.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Fournit la valeur d'un paramètre de méthode de contrôleur pour une requête.
+ * Les binders sont construits au démarrage : toute l'introspection
+ * (annotations, types, noms) est déjà résolue.
+ */
+@FunctionalInterface
+public interface ParamBinder {
+    Object bind(HttpServletRequest req, HttpServletResponse resp, RouteMatch match);
+}
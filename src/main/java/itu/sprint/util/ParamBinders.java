@@ -0,0 +1,294 @@
+package itu.sprint.util;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import itu.sprint.annotation.PathVariable;
+import itu.sprint.annotation.RequestParam;
+import itu.sprint.annotation.UploadFile;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
+
+/**
+ * Fabrique des ParamBinder : traduit chaque paramètre de méthode de
+ * contrôleur en binder au démarrage. Couvre les mêmes cas que l'ancien
+ * buildArgs du FrontServlet : requête/réponse, @PathVariable,
+ * @RequestParam, @UploadFile, Map, tableaux, List et entités.
+ * Pour une méthode @RestAPI, le premier paramètre Map, tableau, List ou
+ * entité peut aussi être lu depuis le corps de la requête (JSON par
+ * défaut) selon son Content-Type ; un corps illisible donne un 400. Entités, tableaux et listes passent par un
+ * {@link FormBinder} préparé une fois par paramètre ; un type non
+ * instanciable donne null (liste vide pour List), le corps restant lisible.
+ */
+public final class ParamBinders {
+
+    // Type de contenu (sans paramètres, en minuscules) -> lecteur du corps
+    private static final Map<String, BodyReader> BODY_READERS = new ConcurrentHashMap<>();
+
+    static {
+        registerBodyReader("application/json", (req, type) -> JSONParser.parse(bodyReader(req), type));
+    }
+
+    private ParamBinders() {
+    }
+
+    /**
+     * Ajoute (ou remplace) le lecteur de corps pour un type de contenu,
+     * ex: "application/json".
+     */
+    public static void registerBodyReader(String contentType, BodyReader reader) {
+        BODY_READERS.put(contentType.toLowerCase(Locale.ROOT), reader);
+    }
+
+    private static BodyReader bodyReaderFor(HttpServletRequest req) {
+        String contentType = req.getContentType();
+        if (contentType == null) {
+            return null;
+        }
+        int semicolon = contentType.indexOf(';');
+        String mediaType = (semicolon >= 0 ? contentType.substring(0, semicolon) : contentType).trim();
+        return BODY_READERS.get(mediaType.toLowerCase(Locale.ROOT));
+    }
+
+    private static Reader bodyReader(HttpServletRequest req) throws IOException {
+        // JSON est en UTF-8 sauf charset explicite (getReader() prendrait ISO-8859-1)
+        String encoding = req.getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new InputStreamReader(req.getInputStream(), charset);
+    }
+
+    /**
+     * Construit les binders de tous les paramètres d'une méthode.
+     * Si {@code readsBody}, le premier paramètre pouvant recevoir le corps
+     * de la requête le lit ; sinon tout vient des paramètres de formulaire.
+     */
+    public static ParamBinder[] forParameters(Parameter[] parameters, UrlPattern pattern, boolean readsBody) {
+        ParamBinder[] binders = new ParamBinder[parameters.length];
+        boolean bodyBound = !readsBody;
+        for (int i = 0; i < parameters.length; i++) {
+            ParamBinder binder = forParameter(parameters[i], pattern);
+            if (!bodyBound && acceptsBody(parameters[i])) {
+                binder = withBody(binder, parameters[i]);
+                bodyBound = true;
+            }
+            binders[i] = binder;
+        }
+        return binders;
+    }
+
+    private static boolean acceptsBody(Parameter param) {
+        Class<?> pt = param.getType();
+        if (param.isAnnotationPresent(PathVariable.class) || param.isAnnotationPresent(RequestParam.class)
+                || param.isAnnotationPresent(UploadFile.class)) {
+            return false;
+        }
+        return !HttpServletRequest.class.isAssignableFrom(pt) && !HttpServletResponse.class.isAssignableFrom(pt)
+                && !pt.isPrimitive() && pt != String.class;
+    }
+
+    /**
+     * Lit le corps avec le BodyReader du Content-Type s'il y en a un,
+     * sinon garde le binding depuis les paramètres de formulaire.
+     *
+     * @throws BadRequestException si le corps est mal formé ou ne
+     *         correspond pas au type du paramètre
+     */
+    private static ParamBinder withBody(ParamBinder formBinder, Parameter param) {
+        Type type = param.getParameterizedType();
+        Class<?> pt = param.getType();
+        return (req, resp, match) -> {
+            BodyReader reader = bodyReaderFor(req);
+            if (reader == null) {
+                return formBinder.bind(req, resp, match);
+            }
+            Object value;
+            try {
+                value = reader.read(req, type);
+            } catch (IOException | RuntimeException e) {
+                throw new BadRequestException("Lecture du corps impossible : " + e.getMessage(), e);
+            }
+            // Ex: une chaîne JSON pour une entité, que l'appel refuserait ensuite
+            if (value != null && !pt.isInstance(value)) {
+                throw new BadRequestException("Corps de type " + value.getClass().getSimpleName()
+                        + " au lieu de " + pt.getSimpleName(), null);
+            }
+            return value;
+        };
+    }
+
+    /**
+     * Construit le binder d'un paramètre pour une méthode mappée sur le motif donné.
+     */
+    public static ParamBinder forParameter(Parameter param, UrlPattern pattern) {
+        Class<?> pt = param.getType();
+        if (HttpServletRequest.class.isAssignableFrom(pt)) {
+            return (req, resp, match) -> req;
+        }
+        if (HttpServletResponse.class.isAssignableFrom(pt)) {
+            return (req, resp, match) -> resp;
+        }
+        PathVariable pv = param.getAnnotation(PathVariable.class);
+        if (pv != null) {
+            String paramName = pv.value().isEmpty() ? param.getName() : pv.value();
+            int index = pattern.indexOf(paramName);
+            if (index < 0) {
+                return (req, resp, match) -> null;
+            }
+            Function<String, Object> converter = converterFor(pt);
+            return (req, resp, match) -> converter.apply(match.getParam(index));
+        }
+        RequestParam rp = param.getAnnotation(RequestParam.class);
+        if (rp != null) {
+            String paramName = rp.value();
+            Function<String, Object> converter = converterFor(pt);
+            return (req, resp, match) -> {
+                String value = req.getParameter(paramName);
+                return value != null ? converter.apply(value) : null;
+            };
+        }
+        UploadFile uf = param.getAnnotation(UploadFile.class);
+        if (uf != null) {
+            return uploadBinder(uf.value(), pt);
+        }
+        if (Map.class.isAssignableFrom(pt)) {
+            return (req, resp, match) -> parameterMap(req);
+        }
+        if (pt.isArray()) {
+            // Gestion des tableaux d'objets : Person[]
+            FormBinder binder = FormBinder.forType(pt.getComponentType());
+            if (binder == null) {
+                return (req, resp, match) -> null;
+            }
+            String paramName = param.getName();
+            return (req, resp, match) -> binder.bindIndexed(req, paramName);
+        }
+        if (List.class.isAssignableFrom(pt)) {
+            return listBinder(param);
+        }
+        return entityBinder(pt);
+    }
+
+    private static ParamBinder uploadBinder(String fileName, Class<?> pt) {
+        if (pt != Part.class && pt != FileUpload.class) {
+            return (req, resp, match) -> null;
+        }
+        boolean wrap = pt == FileUpload.class;
+        return (req, resp, match) -> {
+            try {
+                Part filePart = req.getPart(fileName);
+                if (filePart == null) {
+                    return null;
+                }
+                return wrap ? new FileUpload(filePart) : filePart;
+            } catch (Exception e) {
+                return null;
+            }
+        };
+    }
+
+    private static Map<String, Object> parameterMap(HttpServletRequest req) {
+        // Si le type est Map<String, Object>, on crée une map avec tous les paramètres
+        Map<String, Object> paramMap = new HashMap<>();
+        for (Map.Entry<String, String[]> entry : req.getParameterMap().entrySet()) {
+            String[] values = entry.getValue();
+            if (values.length == 1) {
+                paramMap.put(entry.getKey(), values[0]);
+            } else {
+                paramMap.put(entry.getKey(), values);
+            }
+        }
+        return paramMap;
+    }
+
+    private static ParamBinder listBinder(Parameter param) {
+        // Gestion des listes d'objets : List<Person>
+        Class<?> listType;
+        try {
+            ParameterizedType parameterizedType = (ParameterizedType) param.getParameterizedType();
+            listType = (Class<?>) parameterizedType.getActualTypeArguments()[0];
+        } catch (RuntimeException e) {
+            return (req, resp, match) -> null;
+        }
+        FormBinder binder = FormBinder.forType(listType);
+        if (binder == null) {
+            return (req, resp, match) -> new ArrayList<>();
+        }
+        String paramName = param.getName();
+        return (req, resp, match) -> {
+            Object[] array = binder.bindIndexed(req, paramName);
+            return array != null ? new ArrayList<>(Arrays.asList(array)) : new ArrayList<>();
+        };
+    }
+
+    private static ParamBinder entityBinder(Class<?> pt) {
+        // Mapping automatique d'objet (entité) depuis les paramètres de la requête
+        FormBinder binder = FormBinder.forType(pt);
+        if (binder == null) {
+            return (req, resp, match) -> null;
+        }
+        return (req, resp, match) -> binder.bind(req);
+    }
+
+    /**
+     * Convertisseur String -> type cible, choisi une fois pour un type donné.
+     */
+    public static Function<String, Object> converterFor(Class<?> type) {
+        if (type == int.class || type == Integer.class) {
+            return value -> {
+                try {
+                    return Integer.parseInt(value);
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            };
+        } else if (type == long.class || type == Long.class) {
+            return value -> {
+                try {
+                    return Long.parseLong(value);
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            };
+        } else if (type == double.class || type == Double.class) {
+            return value -> {
+                try {
+                    return Double.parseDouble(value);
+                } catch (NumberFormatException e) {
+                    return 0.0;
+                }
+            };
+        } else if (type == boolean.class || type == Boolean.class) {
+            return Boolean::parseBoolean;
+        }
+        // String et autres types : on garde la chaîne
+        return value -> value;
+    }
+
+    /**
+     * Vrai si {@link #converterFor(Class)} produit une valeur affectable à ce type.
+     */
+    static boolean isConvertible(Class<?> type) {
+        return type == int.class || type == Integer.class || type == long.class || type == Long.class
+                || type == double.class || type == Double.class || type == boolean.class || type == Boolean.class
+                || type.isAssignableFrom(String.class);
+    }
+
+    public static Object convertValue(String value, Class<?> type) {
+        return converterFor(type).apply(value);
+    }
+}
@@ -0,0 +1,65 @@
+package itu.sprint.util;
+
+/**
+ * Résultat réutilisable d'un UrlPattern.match : les valeurs des variables
+ * de chemin sont stockées comme bornes (début, fin) dans l'URL d'origine
+ * et ne deviennent des String qu'à la lecture.
+ */
+public class PathMatch {
+    private static final int[] NO_BOUNDS = new int[0];
+
+    private UrlPattern pattern;
+    private String path;
+    int[] bounds = NO_BOUNDS;
+
+    public PathMatch() {
+    }
+
+    PathMatch(int capacity) {
+        bounds = new int[2 * capacity];
+    }
+
+    void init(UrlPattern pattern, String path) {
+        this.pattern = pattern;
+        this.path = path;
+        int size = 2 * pattern.getParamNames().length;
+        if (bounds.length < size) {
+            bounds = new int[size];
+        }
+    }
+
+    public UrlPattern getPattern() {
+        return pattern;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int getParamCount() {
+        return pattern.getParamNames().length;
+    }
+
+    public int getStart(int index) {
+        return bounds[2 * index];
+    }
+
+    public int getEnd(int index) {
+        return bounds[2 * index + 1];
+    }
+
+    /**
+     * Valeur de la variable de chemin à la position donnée.
+     */
+    public String getParam(int index) {
+        return path.substring(bounds[2 * index], bounds[2 * index + 1]);
+    }
+
+    /**
+     * Valeur de la variable de chemin portant ce nom, ou null si absente.
+     */
+    public String getParam(String name) {
+        int index = pattern.indexOf(name);
+        return index >= 0 ? getParam(index) : null;
+    }
+}
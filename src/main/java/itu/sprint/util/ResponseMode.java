@@ -0,0 +1,13 @@
+package itu.sprint.util;
+
+/**
+ * Façon dont le retour d'une méthode de contrôleur est rendu.
+ */
+public enum ResponseMode {
+    /** Méthode @RestAPI : sérialisation JSON du retour */
+    JSON,
+    /** Retour ModelView : attributs posés sur la requête puis forward vers la vue */
+    MODEL_VIEW,
+    /** Tout le reste : affichage en texte brut */
+    TEXT
+}
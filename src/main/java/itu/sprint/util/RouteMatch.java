@@ -0,0 +1,22 @@
+package itu.sprint.util;
+
+/**
+ * Résultat d'une résolution par UrlRouter : le mapping trouvé et les
+ * variables de chemin capturées pendant le parcours de l'arbre.
+ */
+public class RouteMatch extends PathMatch {
+    private UrlMapping mapping;
+
+    RouteMatch(int capacity) {
+        super(capacity);
+    }
+
+    void bind(UrlMapping mapping, String path) {
+        this.mapping = mapping;
+        init(mapping.getPattern(), path);
+    }
+
+    public UrlMapping getMapping() {
+        return mapping;
+    }
+}
@@ -0,0 +1,93 @@
+package itu.sprint.util;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Table de routage immuable : mappings figés, arbre de routage et
+ * fabrique de contrôleurs construits ensemble. Une modification passe par
+ * une nouvelle table publiée via {@link RouteTableHolder} ; une requête
+ * travaille du début à la fin sur la table lue en entrant.
+ */
+public final class RouteTable {
+
+    private static final RouteTable EMPTY = new RouteTable(List.of(), null);
+
+    private final List<UrlMapping> mappings;
+    private final UrlRouter router;
+    private final ControllerFactory controllers;
+    private final Set<Class<?>> controllerClasses;
+    // Calculés une fois : lus à chaque requête par le tri statique / dynamique
+    private final Set<String> staticPrefixes;
+
+    /**
+     * Les mappings donnés sont figés : ils ne peuvent plus recevoir de méthode.
+     */
+    public RouteTable(List<UrlMapping> mappings, ControllerFactory controllers) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (UrlMapping mapping : mappings) {
+            mapping.freeze();
+            classes.addAll(mapping.getClassMethodMap().keySet());
+        }
+        this.mappings = List.copyOf(mappings);
+        this.router = new UrlRouter(this.mappings);
+        this.controllers = controllers;
+        this.controllerClasses = Set.copyOf(classes);
+        this.staticPrefixes = router.getStaticPrefixes();
+    }
+
+    public static RouteTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Résout un chemin ; null si aucune route ne correspond.
+     */
+    public RouteMatch match(String path) {
+        return router.match(path);
+    }
+
+    public List<UrlMapping> getMappings() {
+        return mappings;
+    }
+
+    /** Fabrique des contrôleurs, ou null (instanciation directe). */
+    public ControllerFactory getControllers() {
+        return controllers;
+    }
+
+    public Set<Class<?>> getControllerClasses() {
+        return controllerClasses;
+    }
+
+    public Set<String> getStaticPrefixes() {
+        return staticPrefixes;
+    }
+
+    /**
+     * Nouveaux mappings pour la table suivante : ceux-ci sans les routes des
+     * classes nommées, puis {@code added} fusionnés par motif. Les mappings
+     * de cette table ne sont pas touchés.
+     */
+    public List<UrlMapping> copyMappings(Set<String> removedClassNames, List<UrlMapping> added) {
+        Map<String, UrlMapping> byPattern = new LinkedHashMap<>();
+        for (UrlMapping mapping : mappings) {
+            mapping.getClassMethodMap().forEach((cls, method) -> {
+                if (!removedClassNames.contains(cls.getName())) {
+                    copyOf(byPattern, mapping.getPattern()).addMethod(cls, method);
+                }
+            });
+        }
+        for (UrlMapping mapping : added) {
+            mapping.getClassMethodMap().forEach((cls, method) -> copyOf(byPattern, mapping.getPattern()).addMethod(cls, method));
+        }
+        return List.copyOf(byPattern.values());
+    }
+
+    private static UrlMapping copyOf(Map<String, UrlMapping> byPattern, UrlPattern pattern) {
+        return byPattern.computeIfAbsent(pattern.getPattern(), p -> new UrlMapping(new UrlPattern(p)));
+    }
+}
@@ -0,0 +1,48 @@
+package itu.sprint.util;
+
+import jakarta.servlet.ServletContext;
+
+/**
+ * Référence unique vers la table de routage courante, rangée une fois
+ * dans le contexte et gardée par les servlets dès leur init. La lecture
+ * est une simple lecture volatile ; les remplacements sont sérialisés entre
+ * eux et n'exposent jamais une table partiellement construite. Seul
+ * ContextInitializer publie, sous son propre verrou.
+ */
+public final class RouteTableHolder {
+
+    public static final String ATTR = "sprint.routes";
+
+    private volatile RouteTable table;
+
+    /**
+     * Référence du contexte, créée au premier appel.
+     */
+    public static RouteTableHolder of(ServletContext context) {
+        synchronized (RouteTableHolder.class) {
+            Object holder = context.getAttribute(ATTR);
+            if (holder instanceof RouteTableHolder) {
+                return (RouteTableHolder) holder;
+            }
+            RouteTableHolder created = new RouteTableHolder();
+            context.setAttribute(ATTR, created);
+            return created;
+        }
+    }
+
+    /**
+     * Table courante, ou null tant qu'aucune n'a été publiée.
+     */
+    public RouteTable get() {
+        return table;
+    }
+
+    /**
+     * Publie une nouvelle table ; retourne la précédente.
+     */
+    public synchronized RouteTable replace(RouteTable next) {
+        RouteTable previous = table;
+        table = next;
+        return previous;
+    }
+}
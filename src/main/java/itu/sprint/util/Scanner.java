@@ -8,13 +8,10 @@ import java.net.JarURLConnection;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.*;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.lang.reflect.Modifier;
 import java.util.Enumeration;
 import java.util.List;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 
 public class Scanner {
 
@@ -23,79 +20,59 @@ public class Scanner {
      */
     public static List<Class<?>> findClassesInPackage(String packageName)
             throws IOException, URISyntaxException, ClassNotFoundException {
+        return findClassesInPackage(packageName, null);
+    }
+
+    /**
+     * Comme {@link #findClassesInPackage(String)}, mais ne charge que les
+     * classes dont une méthode porte l'annotation de ce nom simple (filtrage
+     * sur le bytecode, sans Class.forName) ; null = toutes les classes.
+     */
+    public static List<Class<?>> findClassesInPackage(String packageName, String methodAnnotation)
+            throws IOException, URISyntaxException, ClassNotFoundException {
 
-        List<Class<?>> classes = new ArrayList<>();
         String packagePath = packageName.replace('.', '/');
         ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
         Enumeration<URL> resources = classLoader.getResources(packagePath);
 
+        // Racines (dossier de classes ou JAR) qui contiennent le package, parcourues en parallèle
+        List<File> roots = new ArrayList<>();
         while (resources.hasMoreElements()) {
             URL resource = resources.nextElement();
             if (resource.getProtocol().equals("file")) {
                 // Développement : dossier src
-                Path path = Paths.get(resource.toURI());
-                classes.addAll(scanDirectory(packageName, path));
+                File root = Paths.get(resource.toURI()).toFile();
+                // Paquetage par défaut ("") : la ressource est déjà la racine
+                int depth = packagePath.isEmpty() ? 0 : packagePath.split("/").length;
+                for (int i = depth; i > 0 && root != null; i--) {
+                    root = root.getParentFile();
+                }
+                if (root != null) {
+                    roots.add(root);
+                }
             } else if (resource.getProtocol().equals("jar")) {
                 // JAR déployé
                 JarURLConnection jarConn = (JarURLConnection) resource.openConnection();
-                try (JarFile jarFile = jarConn.getJarFile()) {
-                    classes.addAll(scanJar(packageName, jarFile));
-                }
+                roots.add(Paths.get(jarConn.getJarFileURL().toURI()).toFile());
             }
         }
-        return classes;
-    }
 
-    private static List<Class<?>> scanDirectory(String packageName, Path directory)
-            throws IOException, ClassNotFoundException {
+        ClassPathScanner scanner = new ClassPathScanner(methodAnnotation, ClassFileAnnotations.ON_METHODS, packageName);
         List<Class<?>> classes = new ArrayList<>();
-        if (!Files.isDirectory(directory))
-            return classes;
-
-        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
-            @Override
-            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-                if (file.toString().endsWith(".class")) {
-                    String className = buildClassName(packageName, directory, file);
-                    try {
-                        classes.add(Class.forName(className));
-                    } catch (ClassNotFoundException e) {
-                        // TODO Auto-generated catch block
-                        e.printStackTrace();
-                    }
-                }
-                return FileVisitResult.CONTINUE;
-            }
-        });
-        return classes;
-    }
-
-    private static List<Class<?>> scanJar(String packageName, JarFile jarFile) throws ClassNotFoundException {
-        List<Class<?>> classes = new ArrayList<>();
-        String packagePath = packageName.replace('.', '/');
-
-        for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements();) {
-            JarEntry entry = entries.nextElement();
-            String name = entry.getName();
-            if (name.startsWith(packagePath) && name.endsWith(".class") && !entry.isDirectory()) {
-                String className = name.replace('/', '.').substring(0, name.length() - 6);
+        for (ClassPathScanner.Result result : scanner.scan(roots).values()) {
+            for (String className : result.getClassNames()) {
                 classes.add(Class.forName(className));
             }
         }
         return classes;
     }
 
-    private static String buildClassName(String packageName, Path root, Path file) {
-        String relative = root.relativize(file).toString();
-        return packageName + "." + relative.replace(File.separator, ".").substring(0, relative.length() - 6);
-    }
-
     // ------------------------------------------------------------------
     // Méthode principale à appeler
     // ------------------------------------------------------------------
     public static void printWebRouteAnnotations(String packageName) {
         try {
-            List<Class<?>> classes = findClassesInPackage(packageName);
+            List<Class<?>> classes = findClassesInPackage(packageName, "WebRoute");
             System.out.println("=== Scan du package : " + packageName + " ===");
             boolean found = false;
 
@@ -123,7 +100,7 @@ public class Scanner {
     }
     public static void executeWebRoute(String packageName, String requestedUrl) {
         try {
-            List<Class<?>> classes = findClassesInPackage(packageName);
+            List<Class<?>> classes = findClassesInPackage(packageName, "WebRoute");
             boolean found = false;
 
             for (Class<?> clazz : classes) {
@@ -1,16 +1,28 @@
 package itu.sprint.util;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class UrlMapping {
-    private UrlPattern pattern;
-    private Map<Class<?>, Method> classMethodMap;
+    private final UrlPattern pattern;
+    private final Map<Class<?>, Method> classMethodMap;
+    private final List<HandlerPlan> plans;
+    // Vues en lecture seule, créées une fois (getPlans() est appelé à chaque requête)
+    private final Map<Class<?>, Method> classMethodView;
+    private final List<HandlerPlan> planView;
+    // Posé quand le mapping entre dans une RouteTable
+    private boolean frozen;
 
     public UrlMapping(UrlPattern pattern) {
         this.pattern = pattern;
         this.classMethodMap = new HashMap<>();
+        this.plans = new ArrayList<>();
+        this.classMethodView = Collections.unmodifiableMap(classMethodMap);
+        this.planView = Collections.unmodifiableList(plans);
     }
 
     public UrlPattern getPattern() {
@@ -18,10 +30,24 @@ public class UrlMapping {
     }
 
     public Map<Class<?>, Method> getClassMethodMap() {
-        return classMethodMap;
+        return classMethodView;
+    }
+
+    public List<HandlerPlan> getPlans() {
+        return planView;
     }
 
     public void addMethod(Class<?> cls, Method method) {
+        if (frozen) {
+            throw new IllegalStateException("Mapping déjà publié : " + pattern.getPattern());
+        }
         classMethodMap.put(cls, method);
+        // Même convention que la map : une seule méthode par classe et par URL
+        plans.removeIf(plan -> plan.getControllerClass() == cls);
+        plans.add(HandlerPlan.compile(cls, method, pattern));
+    }
+
+    void freeze() {
+        frozen = true;
     }
-}
\ No newline at end of file
+}
@@ -9,6 +9,10 @@ public class UrlPattern {
     private String pattern;
     private Pattern regex;
     private String[] paramNames;
+    // Nom de variable -> position, résolu une fois à la construction
+    private Map<String, Integer> paramIndexes;
+    // Segments compilés (null = variable {x}) ; null si le motif exige la regex
+    private String[] segments;
 
     public UrlPattern(String urlPattern) {
         this.pattern = urlPattern;
@@ -28,24 +32,130 @@ public class UrlPattern {
             names.add(matcher.group(1));
         }
         this.paramNames = names.toArray(new String[0]);
+
+        this.paramIndexes = new HashMap<>();
+        for (int i = 0; i < paramNames.length; i++) {
+            paramIndexes.putIfAbsent(paramNames[i], i);
+        }
+        this.segments = compileSegments();
+    }
+
+    /**
+     * Découpe le motif en segments ; un segment {var} devient null.
+     * Retourne null si un segment mêle texte et variable (ex: /f-{id}.txt).
+     */
+    private String[] compileSegments() {
+        if (!pattern.startsWith("/")) {
+            return null;
+        }
+        String[] parts = pattern.substring(1).split("/", -1);
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i];
+            if (part.length() > 2 && part.charAt(0) == '{' && part.indexOf('}') == part.length() - 1) {
+                parts[i] = null;
+            } else if (part.indexOf('{') >= 0) {
+                return null;
+            }
+        }
+        return parts;
+    }
+
+    /**
+     * Teste l'URL et retourne le résultat, ou null si elle ne correspond pas.
+     */
+    public PathMatch match(String url) {
+        PathMatch result = new PathMatch();
+        return match(url, result) ? result : null;
+    }
+
+    /**
+     * Teste l'URL en réutilisant l'objet résultat fourni : une seule passe,
+     * aucune Map allouée. Les valeurs sont gardées comme bornes dans l'URL.
+     */
+    public boolean match(String url, PathMatch into) {
+        into.init(this, url);
+        if (segments != null) {
+            return matchSegments(url, into.bounds);
+        }
+        Matcher matcher = regex.matcher(url);
+        if (!matcher.matches()) {
+            return false;
+        }
+        // Par nom : une parenthèse du texte littéral du motif décalerait les numéros de groupe
+        for (int i = 0; i < paramNames.length; i++) {
+            into.bounds[2 * i] = matcher.start(paramNames[i]);
+            into.bounds[2 * i + 1] = matcher.end(paramNames[i]);
+        }
+        return true;
+    }
+
+    private boolean matchSegments(String url, int[] bounds) {
+        if (url == null || url.isEmpty() || url.charAt(0) != '/') {
+            return false;
+        }
+        int pos = 1;
+        int param = 0;
+        for (int s = 0; s < segments.length; s++) {
+            int end = url.indexOf('/', pos);
+            if (end < 0) {
+                end = url.length();
+            }
+            boolean lastSegment = s == segments.length - 1;
+            if (lastSegment != (end == url.length())) {
+                return false;
+            }
+            String literal = segments[s];
+            if (literal == null) {
+                if (end == pos) {
+                    return false;
+                }
+                bounds[2 * param] = pos;
+                bounds[2 * param + 1] = end;
+                param++;
+            } else if (literal.length() != end - pos || !url.regionMatches(pos, literal, 0, literal.length())) {
+                return false;
+            }
+            pos = end + 1;
+        }
+        return true;
     }
 
     public boolean matches(String url) {
-        return regex.matcher(url).matches();
+        return match(url, new PathMatch());
     }
 
     public Map<String, String> extractParams(String url) {
         Map<String, String> params = new HashMap<>();
-        Matcher matcher = regex.matcher(url);
-        if (matcher.matches()) {
-            for (String param : paramNames) {
-                params.put(param, matcher.group(param));
+        PathMatch result = match(url);
+        if (result != null) {
+            for (int i = 0; i < paramNames.length; i++) {
+                params.put(paramNames[i], result.getParam(i));
             }
         }
         return params;
     }
 
+    /**
+     * Position de la variable de chemin portant ce nom, ou -1.
+     */
+    public int indexOf(String name) {
+        Integer index = paramIndexes.get(name);
+        return index != null ? index : -1;
+    }
+
     public String getPattern() {
         return pattern;
     }
-}
\ No newline at end of file
+
+    public String[] getParamNames() {
+        return paramNames;
+    }
+
+    public Pattern getRegex() {
+        return regex;
+    }
+
+    String[] getSegments() {
+        return segments;
+    }
+}
@@ -0,0 +1,125 @@
+package itu.sprint.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Arbre de routage par segments construit à partir des UrlMapping.
+ * Les segments littéraux sont résolus par table de hachage, les segments
+ * {var} sont des fils joker : la résolution coûte O(profondeur du chemin)
+ * quel que soit le nombre de routes. Un segment littéral est toujours
+ * préféré à une variable au même niveau.
+ */
+public class UrlRouter {
+    private final Node root = new Node();
+    // Motifs mêlant texte et variable dans un même segment (ex: /file-{id}.txt)
+    private final List<UrlMapping> regexMappings = new ArrayList<>();
+    private int maxParams;
+
+    public UrlRouter(List<UrlMapping> mappings) {
+        if (mappings != null) {
+            for (UrlMapping mapping : mappings) {
+                add(mapping);
+            }
+        }
+    }
+
+    private void add(UrlMapping mapping) {
+        String[] segments = mapping.getPattern().getSegments();
+        if (segments == null) {
+            regexMappings.add(mapping);
+            return;
+        }
+        Node node = root;
+        for (String segment : segments) {
+            if (segment == null) {
+                if (node.variable == null) {
+                    node.variable = new Node();
+                }
+                node = node.variable;
+            } else {
+                node = node.statics.computeIfAbsent(segment, k -> new Node());
+            }
+        }
+        // Comme l'ancien parcours linéaire : le premier mapping enregistré gagne
+        if (node.mapping == null) {
+            node.mapping = mapping;
+            maxParams = Math.max(maxParams, mapping.getPattern().getParamNames().length);
+        }
+    }
+
+    /**
+     * Résout un chemin (ex: /etudiant/17) ; retourne null si aucune route ne correspond.
+     */
+    public RouteMatch match(String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+        RouteMatch match = new RouteMatch(maxParams);
+        Node node = find(root, path, 1, match.bounds, 0);
+        if (node != null) {
+            match.bind(node.mapping, path);
+            return match;
+        }
+        return matchRegex(path, match);
+    }
+
+    private Node find(Node node, String path, int start, int[] bounds, int depth) {
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        boolean last = end == path.length();
+
+        if (!node.statics.isEmpty()) {
+            Node child = node.statics.get(path.substring(start, end));
+            if (child != null) {
+                Node found = last ? leaf(child) : find(child, path, end + 1, bounds, depth);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        if (node.variable != null && end > start) {
+            Node found = last ? leaf(node.variable) : find(node.variable, path, end + 1, bounds, depth + 1);
+            if (found != null) {
+                bounds[2 * depth] = start;
+                bounds[2 * depth + 1] = end;
+                return found;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Premiers segments littéraux des routes (ex: "api" pour /api/users/{id}).
+     */
+    public Set<String> getStaticPrefixes() {
+        return Collections.unmodifiableSet(new HashSet<>(root.statics.keySet()));
+    }
+
+    private static Node leaf(Node node) {
+        return node.mapping != null ? node : null;
+    }
+
+    private RouteMatch matchRegex(String path, RouteMatch match) {
+        for (UrlMapping mapping : regexMappings) {
+            if (mapping.getPattern().match(path, match)) {
+                match.bind(mapping, path);
+                return match;
+            }
+        }
+        return null;
+    }
+
+    private static final class Node {
+        final Map<String, Node> statics = new HashMap<>();
+        Node variable;
+        UrlMapping mapping;
+    }
+}
@@ -0,0 +1,130 @@
+package itu.sprint;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import itu.sprint.annotation.AnnotationController;
+import itu.sprint.annotation.MapURL;
+import itu.sprint.util.UrlMapping;
+import jakarta.servlet.ServletContext;
+
+class ControllerScannerTest {
+
+    @AnnotationController
+    public static class Hello {
+        @MapURL(url = "/scan-test/hello")
+        public String hello() {
+            return "hello";
+        }
+    }
+
+    @AnnotationController
+    public static class Other {
+        @MapURL(url = "/scan-test/other")
+        public String other() {
+            return "other";
+        }
+    }
+
+    @TempDir
+    Path tempDir;
+
+    private ServletContext context() {
+        return context(Map.of(ControllerScanner.SCAN_MODE_PARAM, "classpath"), null);
+    }
+
+    /**
+     * @param classes racine servie comme WEB-INF/classes, ou null
+     */
+    private ServletContext context(Map<String, String> params, File classes) {
+        File dir = tempDir.toFile();
+        return (ServletContext) Proxy.newProxyInstance(ControllerScannerTest.class.getClassLoader(),
+                new Class<?>[] {ServletContext.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getInitParameter":
+                            return params.get(args[0]);
+                        case "getAttribute":
+                            return ServletContext.TEMPDIR.equals(args[0]) ? dir : null;
+                        case "getRealPath":
+                            return classes != null && "/WEB-INF/classes".equals(args[0]) ? classes.getPath() : null;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    /** Racine de classes dont l'index ne liste que {@link Hello}. */
+    private File indexedRoot() throws IOException {
+        Path index = tempDir.resolve("classes").resolve(ControllerIndex.LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.write(index, (ControllerIndex.HEADER + "\n" + Hello.class.getName() + "\n")
+                .getBytes(StandardCharsets.UTF_8));
+        return tempDir.resolve("classes").toFile();
+    }
+
+    private static Set<String> urls(List<UrlMapping> mappings) {
+        return mappings.stream().map(m -> m.getPattern().getPattern()).collect(Collectors.toSet());
+    }
+
+    private void editCache(String from, String to) throws IOException {
+        Path cache = tempDir.resolve("sprint-scan.cache");
+        String content = new String(Files.readAllBytes(cache), StandardCharsets.UTF_8);
+        assertTrue(content.contains(from));
+        Files.write(cache, content.replace(from, to).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void unchangedRootsReuseCachedRoutes() throws IOException {
+        ServletContext context = context();
+        assertTrue(urls(ControllerScanner.scanControllers(context)).contains("/scan-test/hello"));
+
+        // Une URL modifiée dans le cache ressort telle quelle : aucune introspection
+        editCache("\t/scan-test/hello", "\t/scan-test/cached");
+        Set<String> urls = urls(ControllerScanner.scanControllers(context));
+
+        assertTrue(urls.contains("/scan-test/cached"));
+        assertFalse(urls.contains("/scan-test/hello"));
+    }
+
+    @Test
+    void indexCoversOnlyItsOwnRoot() throws IOException {
+        // Les autres racines (target/test-classes, sans index) restent parcourues
+        Set<String> urls = urls(ControllerScanner.scanControllers(
+                context(Map.of(ScanCache.ENABLED_PARAM, "false"), indexedRoot())));
+
+        assertTrue(urls.contains("/scan-test/hello"));
+        assertTrue(urls.contains("/scan-test/other"));
+    }
+
+    @Test
+    void indexModeSkipsRootsWithoutIndex() throws IOException {
+        Set<String> urls = urls(ControllerScanner.scanControllers(context(
+                Map.of(ScanCache.ENABLED_PARAM, "false", ControllerScanner.SCAN_MODE_PARAM, "index"), indexedRoot())));
+
+        assertTrue(urls.contains("/scan-test/hello"));
+        assertFalse(urls.contains("/scan-test/other"));
+    }
+
+    @Test
+    void staleCachedMethodFallsBackToIntrospection() throws IOException {
+        ServletContext context = context();
+        ControllerScanner.scanControllers(context);
+
+        editCache("\thello()\t", "\tgone()\t");
+        assertTrue(urls(ControllerScanner.scanControllers(context)).contains("/scan-test/hello"));
+    }
+}
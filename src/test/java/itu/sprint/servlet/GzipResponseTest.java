@@ -0,0 +1,119 @@
+package itu.sprint.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class GzipResponseTest {
+
+    private static final ResponseCompressor COMPRESSOR = new ResponseCompressor(
+            (ServletContext) Proxy.newProxyInstance(GzipResponseTest.class.getClassLoader(),
+                    new Class<?>[] {ServletContext.class}, (proxy, method, args) -> null));
+
+    private static final HttpServletRequest GZIP_REQUEST = (HttpServletRequest) Proxy.newProxyInstance(
+            GzipResponseTest.class.getClassLoader(), new Class<?>[] {HttpServletRequest.class},
+            (proxy, method, args) -> "getHeader".equals(method.getName()) ? "gzip" : null);
+
+    /** Réponse enregistrée : en-têtes et corps. */
+    static final class Recorded {
+        final Map<String, String> headers = new HashMap<>();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        HttpServletResponse proxy() {
+            ServletOutputStream out = new ServletOutputStream() {
+                @Override
+                public void write(int b) {
+                    body.write(b);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                }
+            };
+            return (HttpServletResponse) Proxy.newProxyInstance(GzipResponseTest.class.getClassLoader(),
+                    new Class<?>[] {HttpServletResponse.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "setHeader":
+                                headers.put((String) args[0], (String) args[1]);
+                                return null;
+                            case "setContentType":
+                                headers.put("Content-Type", (String) args[0]);
+                                return null;
+                            case "getContentType":
+                                return headers.get("Content-Type");
+                            case "containsHeader":
+                                return headers.containsKey(args[0]);
+                            case "getOutputStream":
+                                return out;
+                            default:
+                                return null;
+                        }
+                    });
+        }
+
+        String gunzip() throws IOException {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.toByteArray()))) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+        }
+    }
+
+    private static String text(char c, int length) {
+        return String.valueOf(c).repeat(length);
+    }
+
+    @Test
+    void compressesBodyOverThreshold() throws IOException {
+        Recorded recorded = new Recorded();
+        GzipResponse gzip = COMPRESSOR.wrap(GZIP_REQUEST, recorded.proxy());
+        gzip.setContentType("application/json");
+        gzip.getOutputStream().write(text('a', 4096).getBytes(StandardCharsets.UTF_8));
+        gzip.finish();
+
+        assertEquals("gzip", recorded.headers.get("Content-Encoding"));
+        assertEquals(text('a', 4096), recorded.gunzip());
+    }
+
+    @Test
+    void detachedBodyIsNotCorruptedByLaterResponseOnSameThread() throws IOException {
+        // Requête asynchrone : le corps continue après le retour du thread au pool
+        Recorded async = new Recorded();
+        GzipResponse first = COMPRESSOR.wrap(GZIP_REQUEST, async.proxy());
+        first.setContentType("text/plain");
+        ServletOutputStream out = first.getOutputStream();
+        out.write(text('x', 2048).getBytes(StandardCharsets.UTF_8));
+        first.detach();
+
+        Recorded next = new Recorded();
+        GzipResponse second = COMPRESSOR.wrap(GZIP_REQUEST, next.proxy());
+        second.setContentType("text/plain");
+        second.getOutputStream().write(text('y', 2048).getBytes(StandardCharsets.UTF_8));
+
+        out.write(text('z', 2048).getBytes(StandardCharsets.UTF_8));
+        out.close();
+        second.finish();
+
+        assertEquals(text('x', 2048) + text('z', 2048), async.gunzip());
+        assertEquals(text('y', 2048), next.gunzip());
+    }
+}
@@ -0,0 +1,61 @@
+package itu.sprint.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PrecompressedAssetsTest {
+
+    private static boolean gzip(String acceptEncoding) {
+        return PrecompressedAssets.accepts(acceptEncoding, PrecompressedAssets.GZIP);
+    }
+
+    @Test
+    void acceptsListedCoding() {
+        assertTrue(gzip("gzip"));
+        assertTrue(gzip("deflate, gzip"));
+        assertTrue(gzip("GZip"));
+        assertTrue(gzip("br;q=1.0, gzip;q=0.8"));
+        assertFalse(gzip("deflate, br"));
+        assertFalse(gzip(null));
+        assertFalse(gzip(""));
+    }
+
+    @Test
+    void zeroQualityRefuses() {
+        assertFalse(gzip("gzip;q=0"));
+        assertFalse(gzip("gzip; q=0.000"));
+        assertFalse(gzip("gzip;q=abc"));
+        assertTrue(gzip("gzip;q=0.001"));
+    }
+
+    @Test
+    void explicitCodingOverridesWildcard() {
+        assertTrue(gzip("*;q=0, gzip"));
+        assertTrue(gzip("*;q=0, gzip;q=0.5"));
+        assertFalse(gzip("gzip;q=0, *"));
+        assertFalse(gzip("*, gzip;q=0"));
+    }
+
+    @Test
+    void wildcardAppliesToUnlistedCoding() {
+        assertTrue(gzip("*"));
+        assertTrue(gzip("br, *;q=0.1"));
+        assertFalse(gzip("br, *;q=0"));
+    }
+
+    @Test
+    void findsQualityAfterOtherParameters() {
+        assertFalse(gzip("gzip;level=9;q=0"));
+        assertTrue(gzip("gzip;level=9"));
+        assertFalse(gzip("gzip;Q=0"));
+    }
+
+    @Test
+    void brotliIsMatchedIndependently() {
+        assertTrue(PrecompressedAssets.accepts("gzip, br", PrecompressedAssets.BROTLI));
+        assertFalse(PrecompressedAssets.accepts("gzip, br;q=0", PrecompressedAssets.BROTLI));
+        assertFalse(PrecompressedAssets.accepts("gzip", PrecompressedAssets.BROTLI));
+    }
+}
@@ -0,0 +1,299 @@
+package itu.sprint.servlet;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class StaticResourceHandlerTest {
+
+    private static final String BODY = "body { color: #333; }\n";
+    // Dates HTTP à la seconde : on travaille sur une date ronde
+    private static final long MODIFIED = 1_700_000_000_000L;
+
+    private File root;
+    private StaticResourceHandler handler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        root = Files.createTempDirectory("sprint-static").toFile();
+        File css = new File(root, "app.css");
+        Files.write(css.toPath(), BODY.getBytes(StandardCharsets.UTF_8));
+        css.setLastModified(MODIFIED);
+        new File(root, "WEB-INF").mkdir();
+        Files.write(new File(root, "WEB-INF/web.xml").toPath(), "<web-app/>".getBytes(StandardCharsets.UTF_8));
+        handler = new StaticResourceHandler(context(root));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        handler.close();
+        try (Stream<Path> files = Files.walk(root.toPath())) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private static ServletContext context(File root) {
+        return (ServletContext) Proxy.newProxyInstance(StaticResourceHandlerTest.class.getClassLoader(),
+                new Class<?>[] {ServletContext.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getRealPath":
+                            return new File(root, (String) args[0]).getPath();
+                        case "getMimeType":
+                            return ((String) args[0]).endsWith(".css") ? "text/css" : null;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    /** Réponse enregistrée : statut, en-têtes et corps. */
+    static final class Recorded {
+        int status = 200;
+        final Map<String, String> headers = new HashMap<>();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        HttpServletResponse proxy() {
+            ServletOutputStream out = new ServletOutputStream() {
+                @Override
+                public void write(int b) {
+                    body.write(b);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                }
+            };
+            return (HttpServletResponse) Proxy.newProxyInstance(StaticResourceHandlerTest.class.getClassLoader(),
+                    new Class<?>[] {HttpServletResponse.class}, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "setStatus":
+                            case "sendError":
+                                status = (Integer) args[0];
+                                return null;
+                            case "setHeader":
+                                headers.put((String) args[0], (String) args[1]);
+                                return null;
+                            case "setContentLengthLong":
+                                headers.put("Content-Length", String.valueOf(args[0]));
+                                return null;
+                            case "setContentType":
+                                headers.put("Content-Type", (String) args[0]);
+                                return null;
+                            case "getOutputStream":
+                                return out;
+                            default:
+                                return null;
+                        }
+                    });
+        }
+
+        String body() {
+            return body.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+    private Recorded get(String path, String... headerPairs) throws IOException {
+        return request("GET", path, headerPairs);
+    }
+
+    private Recorded request(String httpMethod, String path, String... headerPairs) throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        for (int i = 0; i < headerPairs.length; i += 2) {
+            headers.put(headerPairs[i], headerPairs[i + 1]);
+        }
+        HttpServletRequest req = (HttpServletRequest) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {HttpServletRequest.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getMethod":
+                            return httpMethod;
+                        case "getHeader":
+                            return headers.get((String) args[0]);
+                        case "getDateHeader":
+                            String value = headers.get((String) args[0]);
+                            return value == null ? -1L
+                                    : ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+                        default:
+                            return null;
+                    }
+                });
+        Recorded recorded = new Recorded();
+        handler.serve(handler.lookup(path), req, recorded.proxy());
+        return recorded;
+    }
+
+    private static String httpDate(long millis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+    }
+
+    @Test
+    void parsesSatisfiableRanges() {
+        assertArrayEquals(new long[] {0, 99}, StaticResourceHandler.parseRange("bytes=0-99", 1000));
+        assertArrayEquals(new long[] {500, 999}, StaticResourceHandler.parseRange("bytes=500-", 1000));
+        assertArrayEquals(new long[] {900, 999}, StaticResourceHandler.parseRange("bytes=-100", 1000));
+        // Fin au-delà du fichier : tronquée ; suffixe plus long que le fichier : tout
+        assertArrayEquals(new long[] {990, 999}, StaticResourceHandler.parseRange("bytes=990-5000", 1000));
+        assertArrayEquals(new long[] {0, 999}, StaticResourceHandler.parseRange("bytes=-5000", 1000));
+    }
+
+    @Test
+    void unsatisfiableRangesReturnNull() {
+        assertNull(StaticResourceHandler.parseRange("bytes=1000-", 1000));
+        assertNull(StaticResourceHandler.parseRange("bytes=50-10", 1000));
+        assertNull(StaticResourceHandler.parseRange("bytes=-0", 1000));
+        assertNull(StaticResourceHandler.parseRange("bytes=0-0", 0));
+    }
+
+    @Test
+    void ignoredRangesReturnEmpty() {
+        // Plusieurs intervalles, autre unité ou valeur illisible : réponse complète
+        assertEquals(0, StaticResourceHandler.parseRange("bytes=0-1,5-6", 1000).length);
+        assertEquals(0, StaticResourceHandler.parseRange("items=0-1", 1000).length);
+        assertEquals(0, StaticResourceHandler.parseRange("bytes=abc", 1000).length);
+        assertEquals(0, StaticResourceHandler.parseRange("bytes=a-b", 1000).length);
+    }
+
+    @Test
+    void servesFullFileWithValidators() throws IOException {
+        Recorded response = get("/app.css");
+
+        assertEquals(200, response.status);
+        assertEquals(BODY, response.body());
+        assertEquals(String.valueOf(BODY.length()), response.headers.get("Content-Length"));
+        assertEquals("W/\"" + BODY.length() + "-" + MODIFIED + "\"", response.headers.get("ETag"));
+        assertEquals("text/css", response.headers.get("Content-Type"));
+    }
+
+    @Test
+    void ifNoneMatchReturnsNotModified() throws IOException {
+        String etag = get("/app.css").headers.get("ETag");
+
+        assertEquals(304, get("/app.css", "If-None-Match", etag).status);
+        assertEquals(304, get("/app.css", "If-None-Match", "\"other\", " + etag).status);
+        assertEquals(304, get("/app.css", "If-None-Match", "*").status);
+        // Comparaison faible : l'ETag sans W/ correspond aussi
+        assertEquals(304, get("/app.css", "If-None-Match", etag.substring(2)).status);
+        Recorded changed = get("/app.css", "If-None-Match", "\"other\"");
+        assertEquals(200, changed.status);
+        assertEquals(BODY, changed.body());
+    }
+
+    @Test
+    void ifModifiedSinceComparesToTheSecond() throws IOException {
+        assertEquals(304, get("/app.css", "If-Modified-Since", httpDate(MODIFIED)).status);
+        assertEquals(304, get("/app.css", "If-Modified-Since", httpDate(MODIFIED + 60_000)).status);
+        assertEquals(200, get("/app.css", "If-Modified-Since", httpDate(MODIFIED - 1_000)).status);
+    }
+
+    @Test
+    void ifNoneMatchTakesPrecedenceOverIfModifiedSince() throws IOException {
+        Recorded response = get("/app.css", "If-None-Match", "\"other\"", "If-Modified-Since", httpDate(MODIFIED));
+
+        assertEquals(200, response.status);
+    }
+
+    @Test
+    void servesPartialContent() throws IOException {
+        Recorded response = get("/app.css", "Range", "bytes=0-3");
+
+        assertEquals(206, response.status);
+        assertEquals("body", response.body());
+        assertEquals("bytes 0-3/" + BODY.length(), response.headers.get("Content-Range"));
+        assertEquals("4", response.headers.get("Content-Length"));
+    }
+
+    @Test
+    void rejectsUnsatisfiableRange() throws IOException {
+        Recorded response = get("/app.css", "Range", "bytes=999-");
+
+        assertEquals(416, response.status);
+        assertEquals("bytes */" + BODY.length(), response.headers.get("Content-Range"));
+        assertEquals("", response.body());
+    }
+
+    @Test
+    void ifRangeWithStaleValidatorSendsWholeFile() throws IOException {
+        String etag = get("/app.css").headers.get("ETag");
+
+        assertEquals(206, get("/app.css", "Range", "bytes=0-3", "If-Range", etag).status);
+        Recorded stale = get("/app.css", "Range", "bytes=0-3", "If-Range", "W/\"0-0\"");
+        assertEquals(200, stale.status);
+        assertEquals(BODY, stale.body());
+        assertEquals(200, get("/app.css", "Range", "bytes=0-3", "If-Range", httpDate(MODIFIED - 1_000)).status);
+    }
+
+    @Test
+    void headSendsHeadersOnly() throws IOException {
+        Recorded response = request("HEAD", "/app.css");
+
+        assertEquals(200, response.status);
+        assertEquals(String.valueOf(BODY.length()), response.headers.get("Content-Length"));
+        assertEquals("", response.body());
+    }
+
+    @Test
+    void servesGzipVariantWhenExplicitlyAccepted() throws IOException {
+        File gz = new File(root, "app.css.gz");
+        Files.write(gz.toPath(), new byte[] {1, 2, 3});
+        gz.setLastModified(MODIFIED + 1_000);
+        handler.refresh();
+
+        Recorded response = get("/app.css", "Accept-Encoding", "*;q=0, gzip");
+        assertEquals("gzip", response.headers.get("Content-Encoding"));
+        assertEquals("3", response.headers.get("Content-Length"));
+
+        assertNull(get("/app.css", "Accept-Encoding", "gzip;q=0").headers.get("Content-Encoding"));
+        // Un intervalle porte sur l'original
+        assertNull(get("/app.css", "Accept-Encoding", "gzip", "Range", "bytes=0-3").headers.get("Content-Encoding"));
+    }
+
+    @Test
+    void normalizesBeforeProtectingWebInf() {
+        assertEquals(StaticResourceHandler.Kind.FILE, handler.lookup("/app.css").getKind());
+        assertEquals(StaticResourceHandler.Kind.FILE, handler.lookup("/x/../app.css").getKind());
+        assertEquals(StaticResourceHandler.Kind.MISSING, handler.lookup("/WEB-INF/web.xml").getKind());
+        assertEquals(StaticResourceHandler.Kind.MISSING, handler.lookup("/assets/../WEB-INF/web.xml").getKind());
+        assertEquals(StaticResourceHandler.Kind.MISSING, handler.lookup("//WEB-INF/web.xml").getKind());
+        assertEquals(StaticResourceHandler.Kind.MISSING, handler.lookup("/%2e%2e/WEB-INF/web.xml").getKind());
+        assertEquals(StaticResourceHandler.Kind.MISSING, handler.lookup("/./web-inf/web.xml").getKind());
+    }
+
+    @Test
+    void normalizeRejectsEscapesAboveRoot() {
+        assertEquals("/a/c", StaticResourceHandler.normalize("/a/./b/../c"));
+        assertEquals("/WEB-INF/web.xml", StaticResourceHandler.normalize("//WEB-INF//web.xml"));
+        assertNull(StaticResourceHandler.normalize("/../etc/passwd"));
+        assertNull(StaticResourceHandler.normalize("/a/..%2f..%2fetc"));
+        assertNull(StaticResourceHandler.normalize("/a\\..\\b"));
+    }
+}
@@ -0,0 +1,114 @@
+package itu.sprint.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import itu.sprint.annotation.AnnotationController;
+import itu.sprint.annotation.MapURL;
+
+class ClassFileAnnotationsTest {
+
+    @AnnotationController
+    static class Controller {
+        // Entrées Long/Double du pool : deux emplacements chacune
+        static final long BIG = 1L << 40;
+        static final double RATIO = 0.75;
+
+        @MapURL(url = "/hello")
+        public String hello() {
+            return "hello" + BIG + RATIO;
+        }
+    }
+
+    static class RoutesOnly {
+        @MapURL(url = "/only")
+        public String only() {
+            return "only";
+        }
+    }
+
+    static class Plain {
+        // Le descripteur figure dans le pool, mais aucune annotation ne le porte
+        static final String DECOY = "Litu/sprint/annotation/MapURL;";
+        long value = 123_456_789_012L;
+
+        public String get() {
+            return DECOY + value;
+        }
+    }
+
+    private static byte[] bytes(Class<?> cls) throws IOException {
+        String name = cls.getName().substring(cls.getName().lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = cls.getResourceAsStream(name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static boolean annotated(Class<?> cls, String simpleName, int targets) throws IOException {
+        return ClassFileAnnotations.isAnnotated(ByteBuffer.wrap(bytes(cls)), simpleName, targets);
+    }
+
+    @Test
+    void findsClassAnnotation() throws Exception {
+        assertTrue(annotated(Controller.class, "AnnotationController", ClassFileAnnotations.ON_CLASS));
+        assertFalse(annotated(RoutesOnly.class, "AnnotationController", ClassFileAnnotations.ON_CLASS));
+    }
+
+    @Test
+    void findsMethodAnnotationAfterWideConstants() throws Exception {
+        assertTrue(annotated(Controller.class, "MapURL", ClassFileAnnotations.ON_METHODS));
+        assertTrue(annotated(RoutesOnly.class, "MapURL", ClassFileAnnotations.ON_METHODS));
+        // Sur les méthodes seulement : pas sur la classe
+        assertFalse(annotated(RoutesOnly.class, "MapURL", ClassFileAnnotations.ON_CLASS));
+    }
+
+    @Test
+    void matchesWholeSimpleNameOnly() throws Exception {
+        assertFalse(annotated(Controller.class, "Controller", ClassFileAnnotations.ON_CLASS));
+        assertFalse(annotated(Controller.class, "URL", ClassFileAnnotations.ON_METHODS));
+    }
+
+    @Test
+    void ignoresDescriptorThatIsOnlyAConstant() throws Exception {
+        assertFalse(annotated(Plain.class, "MapURL", ClassFileAnnotations.ON_CLASS | ClassFileAnnotations.ON_METHODS));
+        assertFalse(annotated(Plain.class, "AnnotationController", ClassFileAnnotations.ON_CLASS));
+    }
+
+    @Test
+    void unreadableInputAnswersYes() throws Exception {
+        // L'appelant retombe alors sur le chargement de la classe
+        assertTrue(ClassFileAnnotations.isAnnotated(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}),
+                "MapURL", ClassFileAnnotations.ON_METHODS));
+        byte[] truncated = Arrays.copyOf(bytes(Plain.class), 40);
+        assertTrue(ClassFileAnnotations.isAnnotated(ByteBuffer.wrap(truncated), "MapURL", ClassFileAnnotations.ON_METHODS));
+    }
+
+    @Test
+    void streamAndFileVariantsAgree() throws Exception {
+        byte[] controller = bytes(Controller.class);
+        // Taille annoncée plus petite que le contenu : le tampon doit s'agrandir
+        assertTrue(ClassFileAnnotations.isAnnotated(new ByteArrayInputStream(controller), 16, "MapURL",
+                ClassFileAnnotations.ON_METHODS));
+        assertFalse(ClassFileAnnotations.isAnnotated(new ByteArrayInputStream(bytes(Plain.class)), -1, "MapURL",
+                ClassFileAnnotations.ON_METHODS));
+
+        File file = File.createTempFile("sprint", ".class");
+        try {
+            Files.write(file.toPath(), controller);
+            assertTrue(ClassFileAnnotations.isAnnotated(file, "AnnotationController", ClassFileAnnotations.ON_CLASS));
+            assertFalse(ClassFileAnnotations.isAnnotated(file, "RestAPI", ClassFileAnnotations.ON_METHODS));
+        } finally {
+            Files.delete(file.toPath());
+        }
+    }
+}
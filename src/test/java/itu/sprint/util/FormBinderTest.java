@@ -0,0 +1,130 @@
+package itu.sprint.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+class FormBinderTest {
+
+    static class Base {
+        int id;
+    }
+
+    static class Person extends Base {
+        String name;
+        double score;
+        transient String secret;
+        Date unsupported;
+    }
+
+    interface Shape {
+    }
+
+    private static HttpServletRequest request(String... pairs) {
+        Map<String, String[]> params = new LinkedHashMap<>();
+        for (int i = 0; i < pairs.length; i += 2) {
+            params.put(pairs[i], new String[] {pairs[i + 1]});
+        }
+        return (HttpServletRequest) Proxy.newProxyInstance(FormBinderTest.class.getClassLoader(),
+                new Class<?>[] {HttpServletRequest.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getParameterMap":
+                            return params;
+                        case "getParameter":
+                            String[] values = params.get((String) args[0]);
+                            return values != null ? values[0] : null;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    @Test
+    void parsesFieldStartOfIndexedKeys() {
+        assertEquals(5, FormBinder.fieldStart("p[0].name"));
+        assertEquals(11, FormBinder.fieldStart("people[12].x"));
+        assertEquals(12, FormBinder.indexOf("people[12].x"));
+    }
+
+    @Test
+    void rejectsMalformedIndexedKeys() {
+        String[] malformed = {"name", "p[].name", "p[-1].name", "p[1]name", "p[1].", "p[1]", "p[a].name",
+            "p[1x].name", "p[65536].name", "p[99999999999].name"};
+        for (String key : malformed) {
+            assertEquals(-1, FormBinder.fieldStart(key), key);
+        }
+        assertEquals(9, FormBinder.fieldStart("p[65535].name"));
+    }
+
+    @Test
+    void bindsEntityIncludingInheritedFields() {
+        Person person = (Person) FormBinder.forType(Person.class)
+                .bind(request("id", "7", "name", "alice", "score", "", "secret", "x"));
+
+        assertEquals(7, person.id);
+        assertEquals("alice", person.name);
+        assertEquals(0.0, person.score);
+        assertNull(person.secret);
+    }
+
+    @Test
+    void bindsIndexedRowsInOnePass() {
+        Object[] rows = FormBinder.forType(Person.class).bindIndexed(request(
+                "p[2].name", "carol",
+                "p[0].name", "alice",
+                "p[0].id", "1",
+                "p[2].score", "2.5",
+                "p[0].unknown", "ignored",
+                "p[0].unsupported", "ignored",
+                "p[x].name", "ignored"), "p");
+
+        assertEquals(Person[].class, rows.getClass());
+        assertEquals(3, rows.length);
+        assertEquals("alice", ((Person) rows[0]).name);
+        assertEquals(1, ((Person) rows[0]).id);
+        assertNull(((Person) rows[0]).unsupported);
+        assertNull(rows[1]);
+        assertEquals(2.5, ((Person) rows[2]).score);
+    }
+
+    @Test
+    void returnsNullWithoutIndexedKeys() {
+        assertNull(FormBinder.forType(Person.class).bindIndexed(request("name", "alice", "p[0].nope", "x"), "p"));
+    }
+
+    @Test
+    void noBinderWhenTypeCannotBeInstantiated() {
+        assertNull(FormBinder.forType(Shape.class));
+        assertNull(FormBinder.forType(int.class));
+        assertNull(FormBinder.forType(Integer.class));
+    }
+
+    @SuppressWarnings("unused")
+    public void handler(int count, Long total, int[] ids, List<Integer> values, Shape shape) {
+    }
+
+    @Test
+    void nonInstantiableParametersStayUnbound() throws Exception {
+        // Ne doit pas faire échouer le démarrage : null, ou liste vide pour List
+        Method method = FormBinderTest.class.getMethod("handler", int.class, Long.class, int[].class, List.class,
+                Shape.class);
+        ParamBinder[] binders = ParamBinders.forParameters(method.getParameters(), new UrlPattern("/h"), true);
+
+        HttpServletRequest req = request("count", "3", "ids[0].x", "1");
+        assertNull(binders[0].bind(req, null, null));
+        assertNull(binders[1].bind(req, null, null));
+        assertNull(binders[2].bind(req, null, null));
+        assertEquals(List.of(), binders[3].bind(req, null, null));
+        assertNull(binders[4].bind(req, null, null));
+    }
+}
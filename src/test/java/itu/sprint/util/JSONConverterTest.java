@@ -0,0 +1,74 @@
+package itu.sprint.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class JSONConverterTest {
+
+    private static byte[] utf8(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONConverter.writeJSON(value, out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void escapesQuotesBackslashAndShortForms() {
+        assertEquals("a\\\"b\\\\c\\n\\r\\t\\b\\f", JSONConverter.escapeJSON("a\"b\\c\n\r\t\b\f"));
+    }
+
+    @Test
+    void escapesEveryControlCharacter() throws Exception {
+        for (char c = 0; c < 0x20; c++) {
+            String escaped = JSONConverter.escapeJSON(String.valueOf(c));
+            assertEquals('\\', escaped.charAt(0), "U+" + Integer.toHexString(c));
+            assertEquals("\"" + escaped + "\"", new String(utf8(String.valueOf(c)), StandardCharsets.UTF_8),
+                    "U+" + Integer.toHexString(c));
+        }
+        assertEquals("\\u0000", JSONConverter.escapeJSON("\u0000"));
+        assertEquals("\\u001f", JSONConverter.escapeJSON("\u001f"));
+    }
+
+    @Test
+    void returnsSameStringWhenNothingToEscape() {
+        String plain = "héllo wörld €";
+        assertSame(plain, JSONConverter.escapeJSON(plain));
+        assertEquals("", JSONConverter.escapeJSON(null));
+    }
+
+    @Test
+    void utf8WriterMatchesCharWriterForNonAscii() throws Exception {
+        // 2, 3 et 4 octets (paire de surrogates), au milieu de caractères à échapper
+        String value = "é\"€\n\uD83D\uDE00\\ñ";
+
+        String json = JSONConverter.toJSON(value);
+        assertArrayEquals(json.getBytes(StandardCharsets.UTF_8), utf8(value));
+        assertArrayEquals(new byte[] {'"', (byte) 0xF0, (byte) 0x9F, (byte) 0x98, (byte) 0x80, '"'},
+                utf8("\uD83D\uDE00"));
+    }
+
+    @Test
+    void loneSurrogatesBecomeQuestionMarkInUtf8() throws Exception {
+        assertEquals("\"a?b\"", new String(utf8("a\uD83Db"), StandardCharsets.UTF_8));
+        assertEquals("\"a?\"", new String(utf8("a\uDE00"), StandardCharsets.UTF_8));
+        // Surrogate haut en fin de chaîne : pas de lecture au-delà
+        assertEquals("\"?\"", new String(utf8("\uD83D"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void longStringsCrossBufferBoundaries() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            sb.append(i % 3 == 0 ? '€' : i % 3 == 1 ? '\n' : 'x');
+        }
+        String value = sb.toString();
+
+        assertArrayEquals(JSONConverter.toJSON(value).getBytes(StandardCharsets.UTF_8), utf8(value));
+    }
+}
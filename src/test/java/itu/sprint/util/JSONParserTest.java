@@ -0,0 +1,51 @@
+package itu.sprint.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class JSONParserTest {
+
+    static class Item {
+        String name;
+        long[] ids;
+    }
+
+    @Test
+    void fillsEntityAndArrays() throws IOException {
+        Item item = JSONParser.parse("{\"name\":\"a\",\"ids\":[1,2],\"unknown\":{\"x\":[]}}", Item.class);
+
+        assertEquals("a", item.name);
+        assertArrayEquals(new long[] {1, 2}, item.ids);
+        assertArrayEquals(new long[] {3, 4}, JSONParser.parse("[3, 4]", long[].class));
+    }
+
+    @Test
+    void acceptsNestingUpToLimit() throws IOException {
+        String depth = "[".repeat(JSONParser.MAX_DEPTH) + "]".repeat(JSONParser.MAX_DEPTH);
+
+        assertTrue(JSONParser.parse(depth, Object.class) instanceof List);
+    }
+
+    @Test
+    void rejectsDeepNestingWithIOException() {
+        // Sans limite, ce corps épuisait la pile (StackOverflowError)
+        String arrays = "[".repeat(100_000);
+        String objects = "{\"a\":".repeat(100_000);
+
+        assertThrows(IOException.class, () -> JSONParser.parse(arrays, Object.class));
+        assertThrows(IOException.class, () -> JSONParser.parse(objects, Map.class));
+    }
+
+    @Test
+    void rejectsWrongType() {
+        assertThrows(IOException.class, () -> JSONParser.parse("{\"ids\":\"abc\"}", Item.class));
+    }
+}
@@ -0,0 +1,100 @@
+package itu.sprint.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesHaveOwnBucket() {
+        for (long v = 0; v < 32; v++) {
+            assertEquals((int) v, LatencyHistogram.indexOf(v));
+            assertEquals(v, LatencyHistogram.upperBound((int) v));
+        }
+    }
+
+    @Test
+    void bucketsAreContiguousAndMonotonic() {
+        // Chaque valeur tombe dans une classe dont les bornes l'encadrent
+        long previousUpper = -1;
+        for (int index = 0; index < 400; index++) {
+            long upper = LatencyHistogram.upperBound(index);
+            assertEquals(index, LatencyHistogram.indexOf(upper), "borne haute de " + index);
+            assertEquals(index, LatencyHistogram.indexOf(previousUpper + 1), "borne basse de " + index);
+            assertTrue(upper > previousUpper);
+            previousUpper = upper;
+        }
+    }
+
+    @Test
+    void relativeErrorStaysUnderOneSixteenth() {
+        for (long v = 32; v < 1L << 40; v = v * 3 / 2 + 1) {
+            long upper = LatencyHistogram.upperBound(LatencyHistogram.indexOf(v));
+            assertTrue(upper >= v);
+            assertTrue((double) (upper - v) / v <= 1.0 / 16, "valeur " + v + " -> " + upper);
+        }
+    }
+
+    @Test
+    void percentilesOfUniformDistribution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long v = 1; v <= 1000; v++) {
+            histogram.record(v * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        assertEquals(500_500_000L, histogram.getSumNanos());
+        assertWithin(500_000, histogram.valueAtPercentile(50));
+        assertWithin(990_000, histogram.valueAtPercentile(99));
+        assertEquals(1_000_000, histogram.valueAtPercentile(100));
+        assertWithin(1000, histogram.valueAtPercentile(0));
+    }
+
+    @Test
+    void percentileNeverExceedsMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_001);
+
+        assertEquals(1_000_001, histogram.valueAtPercentile(99.9));
+    }
+
+    @Test
+    void emptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.valueAtPercentile(50));
+    }
+
+    @Test
+    void negativeAndHugeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.valueAtPercentile(50));
+        assertEquals((1L << 41) - 1, histogram.getMaxNanos());
+    }
+
+    @Test
+    void cumulativeCountsUseWholeBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10);
+        histogram.record(1_000);
+        histogram.record(1_000_000);
+
+        assertArrayEquals(new long[] {1, 1, 2, 3},
+                histogram.cumulativeCounts(new long[] {10, 999, 2_000, 10_000_000}));
+    }
+
+    /** Une classe vaut au plus 1/16 de plus que la valeur exacte. */
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 16,
+                "attendu ~" + expected + ", obtenu " + actual);
+    }
+}
@@ -0,0 +1,106 @@
+package itu.sprint.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+
+class ParamBindersTest {
+
+    static class Item {
+        String name;
+    }
+
+    @SuppressWarnings("unused")
+    public void handler(Item item, long[] ids, List<Long> values) {
+    }
+
+    private static ParamBinder[] binders(boolean readsBody) throws NoSuchMethodException {
+        Method method = ParamBindersTest.class.getMethod("handler", Item.class, long[].class, List.class);
+        return ParamBinders.forParameters(method.getParameters(), new UrlPattern("/h"), readsBody);
+    }
+
+    private static HttpServletRequest json(String body) {
+        ByteArrayInputStream bytes = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        ServletInputStream in = new ServletInputStream() {
+            @Override
+            public int read() {
+                return bytes.read();
+            }
+
+            @Override
+            public boolean isFinished() {
+                return bytes.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener listener) {
+            }
+        };
+        return (HttpServletRequest) Proxy.newProxyInstance(ParamBindersTest.class.getClassLoader(),
+                new Class<?>[] {HttpServletRequest.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getContentType":
+                            return "application/json; charset=UTF-8";
+                        case "getCharacterEncoding":
+                            return "UTF-8";
+                        case "getInputStream":
+                            return in;
+                        case "getParameterMap":
+                            return Map.of();
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    @Test
+    void readsJsonBodyIntoFirstEligibleParameter() throws Exception {
+        assertEquals("a", ((Item) binders(true)[0].bind(json("{\"name\":\"a\"}"), null, null)).name);
+    }
+
+    @Test
+    void bindsArrayOfNonInstantiableTypeFromBody() throws Exception {
+        Method method = ParamBindersTest.class.getMethod("handler", Item.class, long[].class, List.class);
+        Parameter[] ids = {method.getParameters()[1]};
+        ParamBinder[] binders = ParamBinders.forParameters(ids, new UrlPattern("/h"), true);
+
+        assertArrayEquals(new long[] {1, 2}, (long[]) binders[0].bind(json("[1, 2]"), null, null));
+    }
+
+    @Test
+    void malformedOrMistypedBodyIsBadRequest() throws Exception {
+        ParamBinder item = binders(true)[0];
+
+        assertThrows(BadRequestException.class, () -> item.bind(json("{\"name\":"), null, null));
+        assertThrows(BadRequestException.class, () -> item.bind(json("\"text\""), null, null));
+        assertThrows(BadRequestException.class, () -> item.bind(json("[".repeat(100_000)), null, null));
+    }
+
+    @Test
+    void bodyIsIgnoredOutsideRestApi() throws Exception {
+        // Sans @RestAPI, l'entité vient des paramètres de formulaire
+        Item item = (Item) binders(false)[0].bind(json("{\"name\":\"a\"}"), null, null);
+
+        assertNull(item.name);
+    }
+}
@@ -0,0 +1,43 @@
+package itu.sprint.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class UrlPatternTest {
+
+    @Test
+    void segmentMatchKeepsBoundsInPath() {
+        PathMatch match = new UrlPattern("/users/{id}/posts/{post}").match("/users/17/posts/abc");
+
+        assertEquals(2, match.getParamCount());
+        assertEquals("17", match.getParam("id"));
+        assertEquals("abc", match.getParam(1));
+        assertEquals(7, match.getStart(0));
+        assertEquals(9, match.getEnd(0));
+        assertNull(match.getParam("missing"));
+    }
+
+    @Test
+    void reusesResultObject() {
+        UrlPattern pattern = new UrlPattern("/users/{id}");
+        PathMatch match = new PathMatch();
+
+        assertTrue(pattern.match("/users/1", match));
+        assertEquals("1", match.getParam("id"));
+        assertTrue(pattern.match("/users/22", match));
+        assertEquals("22", match.getParam("id"));
+        assertFalse(pattern.match("/users", match));
+    }
+
+    @Test
+    void regexFallbackReadsCapturesByName() {
+        // Le groupe (x)? du texte littéral ne doit pas décaler {id}
+        PathMatch match = new UrlPattern("/f(x)?-{id}.txt").match("/fx-42.txt");
+
+        assertEquals("42", match.getParam("id"));
+    }
+}
@@ -0,0 +1,105 @@
+package itu.sprint.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class UrlRouterTest {
+
+    private static UrlRouter router(String... patterns) {
+        List<UrlMapping> mappings = new ArrayList<>();
+        for (String pattern : patterns) {
+            mappings.add(new UrlMapping(new UrlPattern(pattern)));
+        }
+        return new UrlRouter(mappings);
+    }
+
+    private static String matched(UrlRouter router, String path) {
+        RouteMatch match = router.match(path);
+        return match != null ? match.getMapping().getPattern().getPattern() : null;
+    }
+
+    @Test
+    void literalSegmentWinsOverVariable() {
+        // Ordre d'enregistrement inversé : la priorité ne dépend pas de la liste
+        UrlRouter router = router("/users/{id}", "/users/new");
+
+        assertEquals("/users/new", matched(router, "/users/new"));
+        assertEquals("/users/{id}", matched(router, "/users/42"));
+    }
+
+    @Test
+    void capturesPathVariablesWithoutRegex() {
+        RouteMatch match = router("/shops/{shop}/items/{item}").match("/shops/paris/items/7");
+
+        assertEquals(2, match.getParamCount());
+        assertEquals("paris", match.getParam("shop"));
+        assertEquals("7", match.getParam(1));
+    }
+
+    @Test
+    void backtracksToVariableWhenLiteralBranchFails() {
+        // /users/new existe mais pas /users/new/edit : on repart sur {id}
+        UrlRouter router = router("/users/new", "/users/{id}/edit");
+
+        RouteMatch match = router.match("/users/new/edit");
+        assertEquals("/users/{id}/edit", match.getMapping().getPattern().getPattern());
+        assertEquals("new", match.getParam("id"));
+    }
+
+    @Test
+    void backtrackingDropsBoundsOfAbandonedBranch() {
+        UrlRouter router = router("/a/{x}/c", "/{y}/b/d");
+
+        RouteMatch match = router.match("/a/b/d");
+        assertEquals("/{y}/b/d", match.getMapping().getPattern().getPattern());
+        assertEquals("a", match.getParam("y"));
+    }
+
+    @Test
+    void variableSegmentDoesNotMatchEmptySegment() {
+        UrlRouter router = router("/users/{id}");
+
+        assertNull(router.match("/users/"));
+        assertNull(router.match("/users"));
+        assertNull(router.match("/users/1/2"));
+    }
+
+    @Test
+    void firstRegisteredMappingWinsForSamePattern() {
+        UrlMapping first = new UrlMapping(new UrlPattern("/same"));
+        UrlMapping second = new UrlMapping(new UrlPattern("/same"));
+        UrlRouter router = new UrlRouter(List.of(first, second));
+
+        assertSame(first, router.match("/same").getMapping());
+    }
+
+    @Test
+    void mixedSegmentFallsBackToRegex() {
+        UrlRouter router = router("/files/{name}", "/files/f-{id}.txt");
+
+        RouteMatch match = router.match("/download/f-12.txt");
+        assertNull(match);
+        assertEquals("/files/{name}", matched(router, "/files/f-12.txt"));
+
+        UrlRouter regexOnly = router("/files/f-{id}.txt");
+        match = regexOnly.match("/files/f-12.txt");
+        assertEquals("12", match.getParam("id"));
+        assertNull(regexOnly.match("/files/f-.txt"));
+    }
+
+    @Test
+    void rejectsPathsWithoutLeadingSlash() {
+        UrlRouter router = router("/hello");
+
+        assertNull(router.match(null));
+        assertNull(router.match(""));
+        assertNull(router.match("hello"));
+        assertEquals("/hello", matched(router, "/hello"));
+    }
+}